@@ -0,0 +1,85 @@
+package com.back.error;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 401 응답 처리량: 이전 방식(요청마다 Map 생성 + JSON 직렬화) vs GatewayErrorResponseWriter(기동 시 만든 본문 wrap)
+// 요청마다 새 exchange가 필요하므로 exchangeOnly(exchange 생성만)를 같이 측정해서 차이를 봄
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class GatewayErrorResponseBenchmark {
+    private static final MockServerHttpRequest REQUEST = MockServerHttpRequest.get("/api/v1/post/posts")
+            .header("Authorization", "Basic abc")
+            .build();
+
+    private ObjectMapper objectMapper;
+    private GatewayErrorResponseWriter writer;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        writer = new GatewayErrorResponseWriter(objectMapper);
+    }
+
+    @Benchmark
+    public ServerWebExchange exchangeOnly() {
+        return MockServerWebExchange.from(REQUEST);
+    }
+
+    @Benchmark
+    public ServerWebExchange legacy() {
+        ServerWebExchange exchange = MockServerWebExchange.from(REQUEST);
+        legacyErrorResponse(exchange, HttpStatus.UNAUTHORIZED, "401-2", "Authorization 헤더가 Bearer 형식이 아닙니다.").block();
+        return exchange;
+    }
+
+    @Benchmark
+    public ServerWebExchange prebuilt() {
+        ServerWebExchange exchange = MockServerWebExchange.from(REQUEST);
+        writer.write(exchange, GatewayError.AUTHORIZATION_HEADER_NOT_BEARER).block();
+        return exchange;
+    }
+
+    // 이전 AuthenticationGlobalFilter.errorResponse 그대로
+    private Mono<Void> legacyErrorResponse(ServerWebExchange exchange, HttpStatus status, String code, String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> errorBody = Map.of(
+                "resultCode", code,
+                "msg", message,
+                "data", Map.of()
+        );
+
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(errorBody);
+            DataBuffer buffer = response.bufferFactory().wrap(bytes);
+            return response.writeWith(Mono.just(buffer));
+        } catch (JsonProcessingException e) {
+            byte[] bytes = ("{\"resultCode\":\"" + code + "\",\"msg\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+            DataBuffer buffer = response.bufferFactory().wrap(bytes);
+            return response.writeWith(Mono.just(buffer));
+        }
+    }
+}
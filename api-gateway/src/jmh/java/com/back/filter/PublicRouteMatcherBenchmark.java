@@ -0,0 +1,104 @@
+package com.back.filter;
+
+import com.back.config.PublicRouteProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 공개 경로 판정: 이전 방식(List.contains + 요청마다 String.matches 정규식 컴파일) vs PublicRouteMatcher
+// 요청 경로는 게이트웨이가 이미 파싱해 둔 PathContainer를 쓰므로 파싱 비용은 setup에서
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PublicRouteMatcherBenchmark {
+    private static final List<String> LEGACY_PUBLIC_PATHS = List.of(
+            "/api/v1/member/members/login",
+            "/api/v1/member/members/logout",
+            "/api/v1/member/members/join"
+    );
+
+    // exact: 정적 공개 경로, pattern: 변수 있는 공개 경로, private: 공개가 아닌 경로 (모든 규칙을 다 확인)
+    @Param({"exact", "pattern", "private"})
+    public String scenario;
+
+    private PublicRouteMatcher matcher;
+    private String routeId;
+    private HttpMethod method;
+    private String path;
+    private PathContainer pathContainer;
+
+    @Setup
+    public void setUp() {
+        // application.yml의 custom.auth.publicRoutes와 같은 구성
+        matcher = new PublicRouteMatcher(new PublicRouteProperties(Map.of(
+                "member-service", List.of(
+                        new PublicRouteProperties.PublicRoute(null, "/api/v1/member/members/login"),
+                        new PublicRouteProperties.PublicRoute(null, "/api/v1/member/members/logout"),
+                        new PublicRouteProperties.PublicRoute(null, "/api/v1/member/members/join")
+                ),
+                "post-service", List.of(
+                        new PublicRouteProperties.PublicRoute("GET", "/api/{version:v\\d+}/post/posts"),
+                        new PublicRouteProperties.PublicRoute("GET", "/api/{version:v\\d+}/post/posts/{id:\\d+}"),
+                        new PublicRouteProperties.PublicRoute("GET", "/api/{version:v\\d+}/post/posts/{id:\\d+}/comments"),
+                        new PublicRouteProperties.PublicRoute("GET", "/api/{version:v\\d+}/post/posts/{id:\\d+}/comments/{commentId:\\d+}")
+                )
+        )));
+
+        switch (scenario) {
+            case "exact" -> {
+                routeId = "member-service";
+                method = HttpMethod.POST;
+                path = "/api/v1/member/members/login";
+            }
+            case "pattern" -> {
+                routeId = "post-service";
+                method = HttpMethod.GET;
+                path = "/api/v1/post/posts/123/comments/456";
+            }
+            case "private" -> {
+                routeId = "post-service";
+                method = HttpMethod.GET;
+                path = "/api/v1/post/posts/123/likes";
+            }
+            default -> throw new IllegalArgumentException(scenario);
+        }
+
+        pathContainer = PathContainer.parsePath(path);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        return legacyIsPublicPath(path, method);
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return matcher.isPublic(routeId, method, pathContainer);
+    }
+
+    // 이전 AuthenticationGlobalFilter.isPublicPath 그대로
+    private static boolean legacyIsPublicPath(String path, HttpMethod method) {
+        if (LEGACY_PUBLIC_PATHS.contains(path)) {
+            return true;
+        }
+
+        if (method == HttpMethod.GET) {
+            if (path.matches("/api/v\\d+/post/posts(/\\d+)?") ||
+                path.matches("/api/v\\d+/post/posts/\\d+/comments(/\\d+)?")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package com.back.filter;
+
+import com.back.config.RateLimitProperties;
+import com.back.error.GatewayErrorResponseWriter;
+import com.back.ratelimit.ClientIpResolver;
+import com.back.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// RateLimitGlobalFilter가 통과시키는 요청 1건에 더하는 비용
+// baseline(체인만 호출)과의 차이가 필터 오버헤드 (규칙 매칭 + 버킷 조회 + 토큰 / 동시 처리 수 갱신)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RateLimitFilterBenchmark {
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    // member: 인증된 회원 id 키, anonymous: 신뢰 프록시 뒤 X-Forwarded-For IP 키
+    @Param({"member", "anonymous"})
+    public String client;
+
+    private RateLimitGlobalFilter filter;
+    private ServerWebExchange exchange;
+
+    @Setup
+    public void setUp() {
+        // 거절되지 않도록 충분히 큰 한도 (통과 경로 비용만 측정), maxConcurrent로 동시 처리 수 획득 / 반환까지 포함
+        RateLimitProperties properties = new RateLimitProperties(
+                true,
+                1_000_000,
+                600,
+                new RateLimitProperties.Limit(1_000_000_000, 1_000_000, 1_000),
+                List.of(
+                        new RateLimitProperties.Rule("confirm", "market-service", "POST", "/api/v1/market/orders/{id}/payment/confirm/by/tossPayments", 1, 5, 1),
+                        new RateLimitProperties.Rule("login", "member-service", "POST", "/api/v1/member/members/login", 10, 20, 0)
+                ),
+                List.of("10.0.0.0/8")
+        );
+
+        filter = new RateLimitGlobalFilter(
+                new RateLimiter(properties, new SimpleMeterRegistry()),
+                new ClientIpResolver(properties),
+                new GatewayErrorResponseWriter(new ObjectMapper())
+        );
+
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/post/posts/123")
+                .remoteAddress(new InetSocketAddress("10.0.0.5", 40000))
+                .header("X-Forwarded-For", "198.51.100.1")
+                .build();
+
+        exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(
+                ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("post-service").uri(URI.create("http://localhost:8081")).predicate(it -> true).build()
+        );
+
+        if ("member".equals(client)) {
+            exchange.getAttributes().put(AuthenticationGlobalFilter.AUTHENTICATED_MEMBER_ID_ATTR, 12345);
+        }
+    }
+
+    @Benchmark
+    public void baseline() {
+        CHAIN.filter(exchange).subscribe();
+    }
+
+    @Benchmark
+    public void filter() {
+        filter.filter(exchange, CHAIN).subscribe();
+    }
+
+    // 같은 키(같은 버킷)에 여러 스레드가 몰릴 때 (CAS 경합)
+    @Benchmark
+    @Threads(8)
+    public void filterSameKeyContended() {
+        filter.filter(exchange, CHAIN).subscribe();
+    }
+}
@@ -0,0 +1,21 @@
+package com.back.auth;
+
+import com.back.dto.MemberDto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record AccessTokenPayload(
+        int id,
+        String username,
+        String nickname,
+        Instant expiration
+) {
+    public MemberDto toMemberDto() {
+        return new MemberDto(id, null, null, username, nickname, 0);
+    }
+
+    public boolean expiresWithin(Duration duration) {
+        return expiration != null && expiration.isBefore(Instant.now().plus(duration));
+    }
+}
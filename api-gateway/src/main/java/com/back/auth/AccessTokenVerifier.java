@@ -0,0 +1,51 @@
+package com.back.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.util.Optional;
+
+// member-service(MemberAuthTokenUseCase)와 같은 HMAC 키로 AccessToken을 Gateway에서 직접 검증
+// 키와 파서는 한 번만 생성 (JwtParser는 불변 객체라 스레드 안전)
+@Component
+public class AccessTokenVerifier {
+    private final JwtParser jwtParser;
+
+    public AccessTokenVerifier(@Value("${custom.jwt.secretKey}") String jwtSecretKey) {
+        SecretKey secretKey = Keys.hmacShaKeyFor(jwtSecretKey.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+    }
+
+    public Optional<AccessTokenPayload> verify(String accessToken) {
+        Claims claims;
+
+        try {
+            claims = jwtParser.parseSignedClaims(accessToken).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        Integer id = claims.get("id", Integer.class);
+        String username = claims.get("username", String.class);
+        String nickname = claims.get("nickname", String.class);
+
+        if (id == null || username == null) return Optional.empty();
+
+        return Optional.of(
+                new AccessTokenPayload(
+                        id,
+                        username,
+                        nickname,
+                        claims.getExpiration() == null ? null : claims.getExpiration().toInstant()
+                )
+        );
+    }
+}
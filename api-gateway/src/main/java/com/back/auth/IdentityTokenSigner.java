@@ -0,0 +1,72 @@
+package com.back.auth;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.util.Base64;
+
+// 인증된 회원 정보를 서명한 내부 식별 헤더 (X-User-Identity)
+// 형식: v1.{id}.{exp(epoch sec)}.{b64url(username)}.{b64url(nickname)}.{b64url(HMAC-SHA256)}
+// 검증은 common의 InternalIdentityVerifier (형식 변경 시 함께 수정)
+@Component
+public class IdentityTokenSigner {
+    public static final String HEADER_NAME = "X-User-Identity";
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKeySpec secretKey;
+    private final long ttlSeconds;
+    private final Clock clock;
+    // Mac은 스레드 안전하지 않으므로 이벤트 루프 스레드마다 하나씩 재사용
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public IdentityTokenSigner(
+            @Value("${custom.identity.secretKey}") String identitySecretKey,
+            @Value("${custom.identity.ttlSeconds:60}") long ttlSeconds
+    ) {
+        this(identitySecretKey, ttlSeconds, Clock.systemUTC());
+    }
+
+    // 테스트에서 만료 시각을 고정하기 위함
+    IdentityTokenSigner(String identitySecretKey, long ttlSeconds, Clock clock) {
+        this.secretKey = new SecretKeySpec(identitySecretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.ttlSeconds = ttlSeconds;
+        this.clock = clock;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        newMac(); // 잘못된 키면 기동 시점에 실패
+    }
+
+    public String sign(int id, String username, String nickname) {
+        long expiration = clock.instant().getEpochSecond() + ttlSeconds;
+
+        String payload = VERSION + "." + id + "." + expiration + "."
+                + encode(username) + "."
+                + encode(nickname);
+
+        byte[] signature = macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+
+        return payload + "." + BASE64.encodeToString(signature);
+    }
+
+    private static String encode(String value) {
+        return BASE64.encodeToString((value == null ? "" : value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("내부 식별 헤더 서명 키를 초기화할 수 없습니다.", e);
+        }
+    }
+}
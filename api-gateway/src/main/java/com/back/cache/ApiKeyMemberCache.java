@@ -0,0 +1,130 @@
+package com.back.cache;
+
+import com.back.client.MemberServiceClient;
+import com.back.dto.MemberDto;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// apiKey → 회원 조회 결과 캐시
+// - 같은 apiKey로 동시에 들어온 요청은 하나의 member-service 호출을 공유 (single-flight)
+// - 없는 apiKey도 짧게 캐시 (negative TTL)
+// - member.modified/joined 이벤트로 회원 단위 무효화 (AuthCacheKafkaListener)
+// - 조회 중에 그 회원이 무효화되면 결과는 캐시에 남기지 않음 (회원 단위 비교, 기다리던 요청에는 전달)
+@Component
+public class ApiKeyMemberCache {
+    private final MemberServiceClient memberServiceClient;
+    private final AsyncCache<String, Optional<MemberDto>> cache;
+    // 회원 id → 캐시된 apiKey 목록 (이벤트에는 apiKey가 없으므로 역색인 유지)
+    private final ConcurrentHashMap<Integer, Set<String>> apiKeysByMemberId = new ConcurrentHashMap<>();
+    // 진행 중인 조회 → 조회하는 동안 무효화된 회원 id
+    // (조회 전에는 어떤 회원인지 모르므로 결과를 받은 뒤 그 회원만 비교, 다른 회원의 무효화로 버리지 않음)
+    private final ConcurrentHashMap<CompletableFuture<Optional<MemberDto>>, Set<Integer>> evictedDuringLoad = new ConcurrentHashMap<>();
+
+    public ApiKeyMemberCache(
+            MemberServiceClient memberServiceClient,
+            MeterRegistry meterRegistry,
+            @Value("${custom.auth.apiKeyCache.maximumSize:100000}") long maximumSize,
+            @Value("${custom.auth.apiKeyCache.ttlSeconds:600}") long ttlSeconds,
+            @Value("${custom.auth.apiKeyCache.negativeTtlSeconds:5}") long negativeTtlSeconds
+    ) {
+        this.memberServiceClient = memberServiceClient;
+
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        Duration negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<String, Optional<MemberDto>>creating(
+                        (apiKey, member) -> member.isPresent() ? ttl : negativeTtl
+                ))
+                .removalListener((String apiKey, Optional<MemberDto> member, RemovalCause cause) -> {
+                    if (apiKey == null || member == null || cause == RemovalCause.REPLACED) return;
+                    member.ifPresent(it -> unindex(it.id(), apiKey));
+                })
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.apiKeyMember");
+    }
+
+    public Mono<MemberDto> get(String apiKey) {
+        // 공유 중인 future를 한 구독자의 취소가 끊지 않도록 suppressCancel
+        return Mono.fromFuture(() -> cache.get(apiKey, (key, executor) -> load(key)), true)
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    public int evictByMemberId(int memberId) {
+        // 색인을 지우기 전에 기록해야 아직 색인하지 않은 조회도 놓치지 않음
+        evictedDuringLoad.values().forEach(memberIds -> memberIds.add(memberId));
+
+        Set<String> apiKeys = apiKeysByMemberId.remove(memberId);
+        if (apiKeys == null) return 0;
+
+        cache.synchronous().invalidateAll(apiKeys);
+        return apiKeys.size();
+    }
+
+    private CompletableFuture<Optional<MemberDto>> load(String apiKey) {
+        CompletableFuture<Optional<MemberDto>> loaded = new CompletableFuture<>();
+        Set<Integer> evicted = ConcurrentHashMap.newKeySet();
+        evictedDuringLoad.put(loaded, evicted);
+
+        memberServiceClient.findByApiKey(apiKey)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture()
+                .whenComplete((member, e) -> {
+                    if (e != null) {
+                        evictedDuringLoad.remove(loaded);
+                        loaded.completeExceptionally(e);
+                        return;
+                    }
+
+                    // 색인 후에 비교해야 그 사이의 무효화를 놓치지 않음
+                    member.ifPresent(it -> index(it.id(), apiKey));
+
+                    evictedDuringLoad.remove(loaded);
+
+                    // 없는 apiKey는 어느 회원의 것이 될지 모르므로 무효화가 하나라도 있었으면 남기지 않음
+                    boolean stale = member.map(it -> evicted.contains(it.id())).orElse(!evicted.isEmpty());
+
+                    if (stale) {
+                        cache.asMap().remove(apiKey, loaded);
+                        member.ifPresent(it -> unindex(it.id(), apiKey));
+                    }
+
+                    loaded.complete(member);
+                });
+
+        return loaded;
+    }
+
+    private void index(int memberId, String apiKey) {
+        apiKeysByMemberId
+                .computeIfAbsent(memberId, id -> ConcurrentHashMap.newKeySet())
+                .add(apiKey);
+    }
+
+    private void unindex(int memberId, String apiKey) {
+        // 만료 직후 같은 apiKey가 다시 로드된 경우 새 색인을 지우지 않는다.
+        if (cache.getIfPresent(apiKey) != null) return;
+
+        apiKeysByMemberId.computeIfPresent(memberId, (id, apiKeys) -> {
+            apiKeys.remove(apiKey);
+            return apiKeys.isEmpty() ? null : apiKeys;
+        });
+    }
+}
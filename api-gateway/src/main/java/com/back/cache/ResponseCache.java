@@ -0,0 +1,155 @@
+package com.back.cache;
+
+import com.back.config.ResponseCacheProperties;
+import com.back.filter.PublicRouteMatcher;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 공개 GET 응답 캐시 (path + query 기준)
+// - 항목별 TTL (라우트 설정)
+// - post.created / post.comment.created 이벤트로 무효화 (PostCacheKafkaListener)
+// - 응답을 받아오는 동안 무효화가 일어나면 그 응답은 저장하지 않음 (generation 비교)
+@Component
+public class ResponseCache {
+    private static final String POST_ID_VARIABLE = "id";
+
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final List<CacheRoute> routes = new ArrayList<>();
+    private final Cache<String, CachedResponse> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseCache(ResponseCacheProperties properties, PublicRouteMatcher publicRouteMatcher, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.maxBodyBytes = properties.maxBodyBytes();
+
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+
+        for (ResponseCacheProperties.Route route : properties.routes()) {
+            // 캐시 키에 회원 정보가 없으므로 인증이 필요한 응답이 섞이면 다른 회원에게 노출됨 → 기동 시점에 실패
+            if (!publicRouteMatcher.isPublicPattern(route.routeId(), HttpMethod.GET, route.path())) {
+                throw new IllegalStateException("Response cache route must be a public GET route: %s %s".formatted(route.routeId(), route.path()));
+            }
+
+            routes.add(new CacheRoute(
+                    route.routeId(),
+                    parser.parse(route.path()),
+                    Duration.ofSeconds(route.ttlSeconds())
+            ));
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfter(Expiry.<String, CachedResponse>creating((key, response) -> response.ttl()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.responseCache");
+    }
+
+    // 캐시 대상이 아니면 null
+    public CacheTarget resolve(String routeId, PathContainer path, String query) {
+        if (!enabled) return null;
+
+        for (CacheRoute route : routes) {
+            if (route.routeId != null && !route.routeId.equals(routeId)) continue;
+
+            PathPattern.PathMatchInfo matchInfo = route.pattern.matchAndExtract(path);
+            if (matchInfo == null) continue;
+
+            String postId = matchInfo.getUriVariables().get(POST_ID_VARIABLE);
+            String key = query == null || query.isEmpty() ? path.value() : path.value() + "?" + query;
+
+            return new CacheTarget(
+                    key,
+                    postId == null ? null : Integer.valueOf(postId),
+                    route.ttl,
+                    generation.get()
+            );
+        }
+
+        return null;
+    }
+
+    // 이보다 큰 응답은 저장하지 않음 (필터가 본문을 모으다가 넘으면 그대로 흘려보냄)
+    public int maxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public CachedResponse get(CacheTarget target) {
+        return cache.getIfPresent(target.key());
+    }
+
+    // 저장되면 응답, 크기 초과 또는 도중에 무효화되었으면 null
+    public CachedResponse put(CacheTarget target, String contentType, byte[] body) {
+        if (body.length > maxBodyBytes) return null;
+
+        CachedResponse response = new CachedResponse(
+                contentType,
+                body,
+                eTag(body),
+                target.postId(),
+                target.ttl()
+        );
+
+        if (generation.get() != target.generation()) return response;
+
+        cache.put(target.key(), response);
+
+        // put 직후 무효화가 끼어들었을 수 있으므로 한 번 더 확인
+        if (generation.get() != target.generation()) cache.invalidate(target.key());
+
+        return response;
+    }
+
+    // 게시물 목록 + 해당 게시물 상세 (새 글이 생기면 목록이 바뀜)
+    public void invalidateForPostCreated(int postId) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(response -> response.postId() == null || response.postId() == postId);
+    }
+
+    // 해당 게시물 상세/댓글
+    public void invalidateForPost(int postId) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(response -> response.postId() != null && response.postId() == postId);
+    }
+
+    public static String eTag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    private record CacheRoute(
+            String routeId,
+            PathPattern pattern,
+            Duration ttl
+    ) {}
+
+    public record CacheTarget(
+            String key,
+            Integer postId,
+            Duration ttl,
+            long generation
+    ) {}
+
+    public record CachedResponse(
+            String contentType,
+            byte[] body,
+            String eTag,
+            Integer postId,
+            Duration ttl
+    ) {}
+}
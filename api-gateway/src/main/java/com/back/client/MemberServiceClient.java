@@ -1,26 +1,62 @@
 package com.back.client;
 
+import com.back.config.MemberServiceClientConfig;
 import com.back.dto.MemberDto;
+import com.back.dto.RefreshTokenResponse;
+import com.back.dto.RefreshTokenResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+// 응답 규칙
+// - 4xx: 해당 회원/토큰 없음 → empty (서킷 실패로 집계하지 않음)
+// - 5xx/타임아웃/서킷 OPEN: MemberServiceUnavailableException
+// 같은 토큰/apiKey로 동시에 들어온 조회는 진행 중인 하나의 호출 결과를 공유
 @Service
 public class MemberServiceClient {
     private final WebClient webClient;
+    private final ReactiveCircuitBreaker circuitBreaker;
     private final String systemApiKey;
+    // "validateToken:{token}", "findByApiKey:{apiKey}", "refreshToken:{token}" → 진행 중인 호출
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<?>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter validateTokenCoalesced;
+    private final Counter findByApiKeyCoalesced;
+    private final Counter refreshTokenCoalesced;
 
     public MemberServiceClient(
-            @Value("${custom.services.member-url}") String memberServiceUrl,
+            @Qualifier("memberServiceWebClient") WebClient webClient,
+            ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory,
+            MeterRegistry meterRegistry,
             @Value("${custom.system.apiKey}") String systemApiKey
     ) {
+        this.webClient = webClient;
+        this.circuitBreaker = circuitBreakerFactory.create(MemberServiceClientConfig.CIRCUIT_BREAKER_ID);
         this.systemApiKey = systemApiKey;
-        this.webClient = WebClient.builder()
-                .baseUrl(memberServiceUrl + "/api/v1/member/members")
-                .build();
+        this.validateTokenCoalesced = coalescedCounter(meterRegistry, "validateToken");
+        this.findByApiKeyCoalesced = coalescedCounter(meterRegistry, "findByApiKey");
+        this.refreshTokenCoalesced = coalescedCounter(meterRegistry, "refreshToken");
+        meterRegistry.gaugeMapSize("gateway.member.client.inflight", List.of(), inFlight);
+    }
+
+    private static Counter coalescedCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("gateway.member.client.coalesced")
+                .description("진행 중인 동일 호출에 합류해 생략된 member-service 호출 수")
+                .tag("operation", operation)
+                .register(meterRegistry);
     }
 
     private String getAuthorizationHeader() {
@@ -28,31 +64,67 @@ public class MemberServiceClient {
     }
 
     public Mono<MemberDto> validateToken(String accessToken) {
-        return webClient.post()
+        return coalesce("validateToken:" + accessToken, validateTokenCoalesced, () -> call(webClient.post()
                 .uri("/validate-token")
                 .header("Authorization", getAuthorizationHeader())
                 .bodyValue(Map.of("accessToken", accessToken))
                 .retrieve()
-                .bodyToMono(MemberDto.class)
-                .onErrorResume(e -> Mono.empty());
+                .bodyToMono(MemberDto.class)));
     }
 
     public Mono<MemberDto> findByApiKey(String apiKey) {
-        return webClient.get()
+        return coalesce("findByApiKey:" + apiKey, findByApiKeyCoalesced, () -> call(webClient.get()
                 .uri("/by-apikey/" + apiKey)
                 .header("Authorization", getAuthorizationHeader())
                 .retrieve()
-                .bodyToMono(MemberDto.class)
-                .onErrorResume(e -> Mono.empty());
+                .bodyToMono(MemberDto.class)));
     }
 
-    public Mono<String> generateAccessToken(int memberId) {
-        return webClient.post()
-                .uri("/" + memberId + "/access-token")
+    // 리프레시 토큰 교체 + AccessToken 재발급, 유효하지 않으면 empty
+    // 같은 토큰으로 동시에 들어온 요청이 각자 교체하지 않도록 합치기
+    public Mono<RefreshTokenResult> refreshToken(String refreshToken) {
+        return coalesce("refreshToken:" + refreshToken, refreshTokenCoalesced, () -> call(webClient.post()
+                .uri("/refresh-token")
                 .header("Authorization", getAuthorizationHeader())
+                .bodyValue(Map.of("refreshToken", refreshToken))
                 .retrieve()
-                .bodyToMono(Map.class)
-                .map(response -> (String) response.get("data"))
-                .onErrorResume(e -> Mono.empty());
+                .bodyToMono(RefreshTokenResponse.class)
+                .mapNotNull(RefreshTokenResponse::data)));
+    }
+
+    private <T> Mono<T> call(Mono<T> request) {
+        Mono<T> notFoundAsEmpty = request
+                .onErrorResume(
+                        e -> e instanceof WebClientResponseException ex && ex.getStatusCode().is4xxClientError(),
+                        e -> Mono.empty()
+                );
+
+        return circuitBreaker.run(notFoundAsEmpty, e -> Mono.error(new MemberServiceUnavailableException(e)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> coalesce(String key, Counter coalescedCounter, Supplier<Mono<T>> request) {
+        return Mono.defer(() -> {
+            CompletableFuture<Optional<?>> created = new CompletableFuture<>();
+            CompletableFuture<Optional<?>> existing = inFlight.putIfAbsent(key, created);
+
+            if (existing != null) {
+                coalescedCounter.increment();
+                return share((CompletableFuture<Optional<T>>) (CompletableFuture<?>) existing);
+            }
+
+            // 첫 구독자가 취소해도 합류한 요청들이 결과를 받도록 호출은 구독자와 분리해서 실행
+            request.get()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .doFinally(signal -> inFlight.remove(key, created))
+                    .subscribe(created::complete, created::completeExceptionally);
+
+            return share((CompletableFuture<Optional<T>>) (CompletableFuture<?>) created);
+        });
+    }
+
+    private static <T> Mono<T> share(CompletableFuture<Optional<T>> future) {
+        return Mono.fromFuture(future, true).flatMap(Mono::justOrEmpty);
     }
 }
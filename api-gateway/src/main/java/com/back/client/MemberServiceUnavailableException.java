@@ -0,0 +1,9 @@
+package com.back.client;
+
+// member-service 5xx/타임아웃/서킷 OPEN
+// 인증 실패(401)와 구분해서 503으로 응답하기 위한 예외
+public class MemberServiceUnavailableException extends RuntimeException {
+    public MemberServiceUnavailableException(Throwable cause) {
+        super("member-service를 사용할 수 없습니다.", cause);
+    }
+}
@@ -0,0 +1,107 @@
+package com.back.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+
+// Gateway → member-service 인증 홉 전용 HTTP 클라이언트
+// - 전용 커넥션 풀 (풀 포화 지표: reactor.netty.connection.provider.*{name=member-service})
+// - connect/response 타임아웃
+// - 서킷 브레이커 (member-service 장애 시 빠르게 503)
+@Configuration
+public class MemberServiceClientConfig {
+    public static final String CIRCUIT_BREAKER_ID = "member-service";
+
+    @Value("${custom.services.member-url}")
+    private String memberServiceUrl;
+
+    @Value("${custom.services.member.pool.maxConnections:200}")
+    private int maxConnections;
+
+    @Value("${custom.services.member.pool.pendingAcquireMaxCount:1000}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${custom.services.member.pool.pendingAcquireTimeoutMs:1000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${custom.services.member.pool.maxIdleTimeMs:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${custom.services.member.connectTimeoutMs:500}")
+    private int connectTimeoutMs;
+
+    @Value("${custom.services.member.responseTimeoutMs:1000}")
+    private long responseTimeoutMs;
+
+    // HTTP11 또는 H2C (member-service에 server.http2.enabled가 켜져 있을 때)
+    @Value("${custom.services.member.protocols:HTTP11}")
+    private List<HttpProtocol> protocols;
+
+    @Value("${custom.services.member.circuitBreaker.failureRateThreshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${custom.services.member.circuitBreaker.slidingWindowSize:50}")
+    private int slidingWindowSize;
+
+    @Value("${custom.services.member.circuitBreaker.waitDurationInOpenStateMs:5000}")
+    private long waitDurationInOpenStateMs;
+
+    @Value("${custom.services.member.circuitBreaker.permittedCallsInHalfOpenState:5}")
+    private int permittedCallsInHalfOpenState;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider memberServiceConnectionProvider() {
+        return ConnectionProvider.builder(CIRCUIT_BREAKER_ID)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient memberServiceWebClient(ConnectionProvider memberServiceConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(memberServiceConnectionProvider)
+                .protocol(protocols.toArray(HttpProtocol[]::new))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
+        return WebClient.builder()
+                .baseUrl(memberServiceUrl + "/api/v1/member/members")
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Bean
+    public Customizer<ReactiveResilience4JCircuitBreakerFactory> memberServiceCircuitBreakerCustomizer() {
+        return factory -> factory.configure(builder -> builder
+                .circuitBreakerConfig(CircuitBreakerConfig.custom()
+                        .failureRateThreshold(failureRateThreshold)
+                        .slidingWindowSize(slidingWindowSize)
+                        .minimumNumberOfCalls(Math.min(10, slidingWindowSize))
+                        .waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenStateMs))
+                        // OPEN 이후 대기 시간이 지나면 이 개수만큼만 시험 호출 (half-open probe)
+                        .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                        .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                        .build())
+                // responseTimeout + 풀 대기 시간보다 길게 잡아 HttpClient 타임아웃이 먼저 동작하도록
+                .timeLimiterConfig(TimeLimiterConfig.custom()
+                        .timeoutDuration(Duration.ofMillis(responseTimeoutMs + pendingAcquireTimeoutMs + connectTimeoutMs))
+                        .build()), CIRCUIT_BREAKER_ID);
+    }
+}
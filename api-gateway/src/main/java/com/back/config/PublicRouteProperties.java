@@ -0,0 +1,22 @@
+package com.back.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+import java.util.Map;
+
+// 라우트 id별 인증 없이 통과시킬 경로 목록
+// method를 생략하면 모든 메서드 허용, path는 PathPattern 문법 ({id:\d+} 등)
+@ConfigurationProperties(prefix = "custom.auth")
+public record PublicRouteProperties(
+        Map<String, List<PublicRoute>> publicRoutes
+) {
+    public PublicRouteProperties {
+        if (publicRoutes == null) publicRoutes = Map.of();
+    }
+
+    public record PublicRoute(
+            String method,
+            String path
+    ) {}
+}
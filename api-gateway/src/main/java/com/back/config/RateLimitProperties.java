@@ -0,0 +1,48 @@
+package com.back.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+// 요청 제한 설정
+// - rules: 위에서부터 처음 일치하는 규칙 적용 (routeId/method 생략 시 전체)
+// - defaultRule: 일치하는 규칙이 없을 때 적용 (replenishPerSecond가 0이면 제한 없음)
+// - trustedProxies: X-Forwarded-For를 믿을 프록시 주소 (IP 또는 CIDR), 비어 있으면 직접 연결한 주소만 사용
+@ConfigurationProperties(prefix = "custom.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        long maxKeys,
+        long idleExpireSeconds,
+        Limit defaultRule,
+        List<Rule> rules,
+        List<String> trustedProxies
+) {
+    public RateLimitProperties {
+        if (maxKeys <= 0) maxKeys = 1_000_000;
+        if (idleExpireSeconds <= 0) idleExpireSeconds = 600;
+        if (defaultRule == null) defaultRule = new Limit(0, 0, 0);
+        if (rules == null) rules = List.of();
+        if (trustedProxies == null) trustedProxies = List.of();
+    }
+
+    public record Rule(
+            String name,
+            String routeId,
+            String method,
+            String path,
+            double replenishPerSecond,
+            int burst,
+            int maxConcurrent
+    ) {
+        public Limit limit() {
+            return new Limit(replenishPerSecond, burst, maxConcurrent);
+        }
+    }
+
+    // replenishPerSecond: 초당 보충량, burst: 순간 허용량, maxConcurrent: 키별 동시 처리 수 (0이면 제한 없음)
+    public record Limit(
+            double replenishPerSecond,
+            int burst,
+            int maxConcurrent
+    ) {}
+}
@@ -0,0 +1,27 @@
+package com.back.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+// 공개 GET 응답 캐시 설정
+// - routes: 캐시할 경로와 TTL (path의 {id} 변수는 게시물 단위 무효화에 사용)
+@ConfigurationProperties(prefix = "custom.response-cache")
+public record ResponseCacheProperties(
+        boolean enabled,
+        long maxEntries,
+        int maxBodyBytes,
+        List<Route> routes
+) {
+    public ResponseCacheProperties {
+        if (maxEntries <= 0) maxEntries = 10_000;
+        if (maxBodyBytes <= 0) maxBodyBytes = 256 * 1024;
+        if (routes == null) routes = List.of();
+    }
+
+    public record Route(
+            String routeId,
+            String path,
+            long ttlSeconds
+    ) {}
+}
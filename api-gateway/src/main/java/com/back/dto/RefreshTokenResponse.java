@@ -0,0 +1,7 @@
+package com.back.dto;
+
+public record RefreshTokenResponse(
+        String resultCode,
+        String msg,
+        RefreshTokenResult data
+) {}
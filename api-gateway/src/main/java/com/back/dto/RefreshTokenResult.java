@@ -0,0 +1,8 @@
+package com.back.dto;
+
+// member-service POST /refresh-token 응답의 data
+public record RefreshTokenResult(
+        MemberDto item,
+        String accessToken,
+        String refreshToken
+) {}
@@ -0,0 +1,20 @@
+package com.back.error;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+// Gateway가 직접 내려주는 고정 에러 응답
+// 본문은 GatewayErrorResponseWriter가 기동 시 1회 직렬화
+@Getter
+@RequiredArgsConstructor
+public enum GatewayError {
+    AUTHORIZATION_HEADER_NOT_BEARER(HttpStatus.UNAUTHORIZED, "401-2", "Authorization 헤더가 Bearer 형식이 아닙니다."),
+    INVALID_API_KEY(HttpStatus.UNAUTHORIZED, "401-3", "API 키가 유효하지 않습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "429-1", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    AUTH_SERVER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "503-1", "인증 서버를 일시적으로 사용할 수 없습니다.");
+
+    private final HttpStatus status;
+    private final String resultCode;
+    private final String msg;
+}
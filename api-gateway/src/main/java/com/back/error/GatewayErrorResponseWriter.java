@@ -0,0 +1,47 @@
+package com.back.error;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 모든 Gateway 필터에서 쓰는 에러 응답 작성기
+// 에러별 JSON 본문을 기동 시 미리 만들어 두고, 요청마다 복사 없이 wrap해서 쓴다
+@Component
+public class GatewayErrorResponseWriter {
+    private final Map<GatewayError, byte[]> bodies = new EnumMap<>(GatewayError.class);
+
+    public GatewayErrorResponseWriter(ObjectMapper objectMapper) {
+        for (GatewayError error : GatewayError.values()) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("resultCode", error.getResultCode());
+            body.put("msg", error.getMsg());
+            body.put("data", Map.of());
+
+            try {
+                bodies.put(error, objectMapper.writeValueAsBytes(body));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("에러 응답 본문을 만들 수 없습니다: " + error, e);
+            }
+        }
+    }
+
+    public Mono<Void> write(ServerWebExchange exchange, GatewayError error) {
+        ServerHttpResponse response = exchange.getResponse();
+        byte[] body = bodies.get(error);
+
+        response.setStatusCode(error.getStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+
+        // 공유 배열을 그대로 감싸기만 함 (읽기 전용으로만 사용)
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -1,47 +1,70 @@
 package com.back.filter;
 
+import com.back.auth.AccessTokenPayload;
+import com.back.auth.AccessTokenVerifier;
+import com.back.auth.IdentityTokenSigner;
+import com.back.cache.ApiKeyMemberCache;
 import com.back.client.MemberServiceClient;
+import com.back.client.MemberServiceUnavailableException;
 import com.back.dto.MemberDto;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.back.dto.RefreshTokenResult;
+import com.back.error.GatewayError;
+import com.back.error.GatewayErrorResponseWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
-import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpCookie;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AuthenticationGlobalFilter implements GlobalFilter, Ordered {
 
+    // 인증된 회원 id (RateLimitGlobalFilter 등 뒤쪽 필터에서 사용)
+    public static final String AUTHENTICATED_MEMBER_ID_ATTR = AuthenticationGlobalFilter.class.getName() + ".memberId";
+
+    private static final Duration COOKIE_MAX_AGE = Duration.ofDays(365);
+
+    // 이전 방식의 평문 식별 헤더 (서비스는 더 이상 읽지 않지만 전달되지 않도록 제거)
+    private static final List<String> LEGACY_IDENTITY_HEADERS = List.of("X-User-Id", "X-User-Name", "X-User-Nickname");
+
     private final MemberServiceClient memberServiceClient;
-    private final ObjectMapper objectMapper;
+    private final IdentityTokenSigner identityTokenSigner;
+    private final AccessTokenVerifier accessTokenVerifier;
+    private final ApiKeyMemberCache apiKeyMemberCache;
+    private final PublicRouteMatcher publicRouteMatcher;
+    private final GatewayErrorResponseWriter errorResponseWriter;
 
     @Value("${custom.system.apiKey}")
     private String systemApiKey;
 
-    private static final List<String> PUBLIC_PATHS = List.of(
-            "/api/v1/member/members/login",
-            "/api/v1/member/members/logout",
-            "/api/v1/member/members/join"
-    );
+    // true면 탈퇴/정지 회원 확인을 위해 member-service에 토큰 검증을 위임
+    @Value("${custom.auth.accessToken.revocationCheck:false}")
+    private boolean accessTokenRevocationCheck;
+
+    // AccessToken 만료까지 이 시간보다 적게 남으면 리프레시 토큰으로 재발급
+    @Value("${custom.auth.accessToken.refreshBeforeSeconds:300}")
+    private long accessTokenRefreshBeforeSeconds;
+
+    @Value("${custom.auth.cookie.domain:localhost}")
+    private String cookieDomain;
 
     @Override
     public int getOrder() {
@@ -49,7 +72,10 @@ public class AuthenticationGlobalFilter implements GlobalFilter, Ordered {
     }
 
     @Override
-    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    public Mono<Void> filter(ServerWebExchange originalExchange, GatewayFilterChain chain) {
+        // 클라이언트가 보낸 식별 헤더는 신뢰하지 않음
+        ServerWebExchange exchange = stripIdentityHeaders(originalExchange);
+
         ServerHttpRequest request = exchange.getRequest();
         String path = request.getURI().getPath();
         HttpMethod method = request.getMethod();
@@ -60,7 +86,7 @@ public class AuthenticationGlobalFilter implements GlobalFilter, Ordered {
         }
 
         // 공개 엔드포인트 통과
-        if (isPublicPath(path, method)) {
+        if (isPublicPath(exchange, method)) {
             return chain.filter(exchange);
         }
 
@@ -68,10 +94,11 @@ public class AuthenticationGlobalFilter implements GlobalFilter, Ordered {
         String headerAuthorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
         String apiKey = "";
         String accessToken = "";
+        String refreshToken = "";
 
         if (headerAuthorization != null && !headerAuthorization.isBlank()) {
             if (!headerAuthorization.startsWith("Bearer ")) {
-                return errorResponse(exchange, HttpStatus.UNAUTHORIZED, "401-2", "Authorization 헤더가 Bearer 형식이 아닙니다.");
+                return errorResponseWriter.write(exchange, GatewayError.AUTHORIZATION_HEADER_NOT_BEARER);
             }
 
             String[] bits = headerAuthorization.split(" ", 3);
@@ -81,58 +108,131 @@ public class AuthenticationGlobalFilter implements GlobalFilter, Ordered {
             // 쿠키에서 읽기
             apiKey = getCookieValue(request, "apiKey");
             accessToken = getCookieValue(request, "accessToken");
+            refreshToken = getCookieValue(request, "refreshToken");
         }
 
-        boolean isApiKeyExists = !apiKey.isBlank();
-        boolean isAccessTokenExists = !accessToken.isBlank();
-
         // 인증 정보 없으면 통과 (서비스에서 권한 체크)
-        if (!isApiKeyExists && !isAccessTokenExists) {
+        if (apiKey.isBlank() && accessToken.isBlank() && refreshToken.isBlank()) {
             return chain.filter(exchange);
         }
 
         // 시스템 API Key인 경우
-        if (isApiKeyExists && apiKey.equals(systemApiKey)) {
+        if (!apiKey.isBlank() && apiKey.equals(systemApiKey)) {
+            exchange.getAttributes().put(AUTHENTICATED_MEMBER_ID_ATTR, 1);
+
             ServerHttpRequest mutatedRequest = request.mutate()
-                    .header("X-User-Id", "1")
-                    .header("X-User-Name", "system")
-                    .header("X-User-Nickname", "시스템")
+                    .header(IdentityTokenSigner.HEADER_NAME, identityTokenSigner.sign(1, "system", "시스템"))
                     .build();
             return chain.filter(exchange.mutate().request(mutatedRequest).build());
         }
 
         // 토큰 검증
-        final String finalApiKey = apiKey;
-        final String finalAccessToken = accessToken;
-
-        if (isAccessTokenExists) {
-            return memberServiceClient.validateToken(finalAccessToken)
-                    .flatMap(member -> proceedWithMember(exchange, chain, member))
-                    .switchIfEmpty(
-                            isApiKeyExists
-                                    ? validateByApiKey(exchange, chain, finalApiKey)
-                                    : chain.filter(exchange)
+        return authenticate(exchange, chain, apiKey, accessToken, refreshToken)
+                // member-service 장애는 인증 실패(401)가 아닌 503으로 구분
+                .onErrorResume(MemberServiceUnavailableException.class, e -> {
+                    log.warn("member-service unavailable: {}", e.getCause() != null ? e.getCause().toString() : e.toString());
+                    return errorResponseWriter.write(exchange, GatewayError.AUTH_SERVER_UNAVAILABLE);
+                });
+    }
+
+    private Mono<Void> authenticate(
+            ServerWebExchange exchange,
+            GatewayFilterChain chain,
+            String apiKey,
+            String accessToken,
+            String refreshToken
+    ) {
+        // AccessToken으로 인증하지 못했을 때: 리프레시 토큰 → apiKey → 비로그인 순서
+        // (Mono<Void>는 항상 비어서 완료되므로 switchIfEmpty 대신 Optional로 분기)
+        Supplier<Mono<Void>> withoutAccessToken = () -> apiKey.isBlank()
+                ? chain.filter(exchange)
+                : validateByApiKey(exchange, chain, apiKey);
+        Supplier<Mono<Void>> afterAccessTokenFailure = () -> refreshToken.isBlank()
+                ? withoutAccessToken.get()
+                : refreshAndProceed(exchange, chain, refreshToken, withoutAccessToken, false);
+
+        if (accessToken.isBlank()) return afterAccessTokenFailure.get();
+
+        if (accessTokenRevocationCheck) {
+            return memberServiceClient.validateToken(accessToken)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(member -> member.isPresent()
+                            ? proceedWithMember(exchange, chain, member.get())
+                            : afterAccessTokenFailure.get()
                     );
-        } else if (isApiKeyExists) {
-            return validateByApiKey(exchange, chain, finalApiKey);
         }
 
-        return chain.filter(exchange);
+        Optional<AccessTokenPayload> payload = accessTokenVerifier.verify(accessToken);
+        if (payload.isEmpty()) return afterAccessTokenFailure.get();
+
+        MemberDto member = payload.get().toMemberDto();
+
+        // 만료가 가까우면 미리 재발급 (실패해도 현재 토큰으로 진행)
+        if (!refreshToken.isBlank() && payload.get().expiresWithin(Duration.ofSeconds(accessTokenRefreshBeforeSeconds))) {
+            return refreshAndProceed(exchange, chain, refreshToken, () -> proceedWithMember(exchange, chain, member), true);
+        }
+
+        return proceedWithMember(exchange, chain, member);
+    }
+
+    private Mono<Void> refreshAndProceed(
+            ServerWebExchange exchange,
+            GatewayFilterChain chain,
+            String refreshToken,
+            Supplier<Mono<Void>> fallback,
+            boolean fallbackOnUnavailable
+    ) {
+        Mono<RefreshTokenResult> refreshed = memberServiceClient.refreshToken(refreshToken);
+
+        if (fallbackOnUnavailable) {
+            refreshed = refreshed.onErrorResume(MemberServiceUnavailableException.class, e -> Mono.empty());
+        }
+
+        return refreshed
+                .filter(result -> result.item() != null)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(result -> {
+                    if (result.isEmpty()) return fallback.get();
+
+                    setTokenCookies(exchange, result.get());
+                    return proceedWithMember(exchange, chain, result.get().item());
+                });
+    }
+
+    // member-service Rq.setCookie와 같은 속성
+    private void setTokenCookies(ServerWebExchange exchange, RefreshTokenResult result) {
+        exchange.getResponse().addCookie(tokenCookie("accessToken", result.accessToken()));
+        exchange.getResponse().addCookie(tokenCookie("refreshToken", result.refreshToken()));
+    }
+
+    private ResponseCookie tokenCookie(String name, String value) {
+        return ResponseCookie.from(name, value)
+                .path("/")
+                .httpOnly(true)
+                .domain(cookieDomain)
+                .secure(true)
+                .sameSite("Strict")
+                .maxAge(COOKIE_MAX_AGE)
+                .build();
     }
 
     private Mono<Void> validateByApiKey(ServerWebExchange exchange, GatewayFilterChain chain, String apiKey) {
-        return memberServiceClient.findByApiKey(apiKey)
-                .flatMap(member -> proceedWithMember(exchange, chain, member))
-                .switchIfEmpty(
-                        errorResponse(exchange, HttpStatus.UNAUTHORIZED, "401-3", "API 키가 유효하지 않습니다.")
+        return apiKeyMemberCache.get(apiKey)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(member -> member.isPresent()
+                        ? proceedWithMember(exchange, chain, member.get())
+                        : errorResponseWriter.write(exchange, GatewayError.INVALID_API_KEY)
                 );
     }
 
     private Mono<Void> proceedWithMember(ServerWebExchange exchange, GatewayFilterChain chain, MemberDto member) {
+        exchange.getAttributes().put(AUTHENTICATED_MEMBER_ID_ATTR, member.id());
+
         ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
-                .header("X-User-Id", String.valueOf(member.id()))
-                .header("X-User-Name", member.username())
-                .header("X-User-Nickname", member.nickname())
+                .header(IdentityTokenSigner.HEADER_NAME, identityTokenSigner.sign(member.id(), member.username(), member.nickname()))
                 .build();
 
         log.debug("Authenticated user: {} ({})", member.username(), member.id());
@@ -140,47 +240,38 @@ public class AuthenticationGlobalFilter implements GlobalFilter, Ordered {
         return chain.filter(exchange.mutate().request(mutatedRequest).build());
     }
 
-    private boolean isPublicPath(String path, HttpMethod method) {
-        // 정적 공개 경로
-        if (PUBLIC_PATHS.contains(path)) {
-            return true;
-        }
+    private ServerWebExchange stripIdentityHeaders(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        if (!headers.containsHeader(IdentityTokenSigner.HEADER_NAME) && !hasLegacyIdentityHeader(headers)) return exchange;
 
-        // GET 요청의 게시물 조회는 공개
-        if (method == HttpMethod.GET) {
-            if (path.matches("/api/v\\d+/post/posts(/\\d+)?") ||
-                path.matches("/api/v\\d+/post/posts/\\d+/comments(/\\d+)?")) {
-                return true;
-            }
+        ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
+                .headers(it -> {
+                    it.remove(IdentityTokenSigner.HEADER_NAME);
+                    LEGACY_IDENTITY_HEADERS.forEach(it::remove);
+                })
+                .build();
+
+        return exchange.mutate().request(mutatedRequest).build();
+    }
+
+    private boolean hasLegacyIdentityHeader(HttpHeaders headers) {
+        for (String name : LEGACY_IDENTITY_HEADERS) {
+            if (headers.containsHeader(name)) return true;
         }
 
         return false;
     }
 
+    private boolean isPublicPath(ServerWebExchange exchange, HttpMethod method) {
+        // 공개 경로는 application.yml의 custom.auth.publicRoutes (라우트 id별)
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : null;
+
+        return publicRouteMatcher.isPublic(routeId, method, exchange.getRequest().getPath().pathWithinApplication());
+    }
+
     private String getCookieValue(ServerHttpRequest request, String name) {
         HttpCookie cookie = request.getCookies().getFirst(name);
         return cookie != null ? cookie.getValue() : "";
     }
-
-    private Mono<Void> errorResponse(ServerWebExchange exchange, HttpStatus status, String code, String message) {
-        ServerHttpResponse response = exchange.getResponse();
-        response.setStatusCode(status);
-        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
-
-        Map<String, Object> errorBody = Map.of(
-                "resultCode", code,
-                "msg", message,
-                "data", Map.of()
-        );
-
-        try {
-            byte[] bytes = objectMapper.writeValueAsBytes(errorBody);
-            DataBuffer buffer = response.bufferFactory().wrap(bytes);
-            return response.writeWith(Mono.just(buffer));
-        } catch (JsonProcessingException e) {
-            byte[] bytes = ("{\"resultCode\":\"" + code + "\",\"msg\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
-            DataBuffer buffer = response.bufferFactory().wrap(bytes);
-            return response.writeWith(Mono.just(buffer));
-        }
-    }
 }
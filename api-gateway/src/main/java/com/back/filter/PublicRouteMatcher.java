@@ -0,0 +1,97 @@
+package com.back.filter;
+
+import com.back.config.PublicRouteProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 공개 경로 테이블을 기동 시 1회 컴파일
+// - 변수/와일드카드 없는 경로: HashSet 조회
+// - 패턴 경로: 미리 파싱한 PathPattern 매칭 (요청마다 정규식 컴파일 없음)
+@Component
+public class PublicRouteMatcher {
+    private static final String ANY_METHOD = "*";
+
+    private final Map<String, RouteTable> tablesByRouteId = new HashMap<>();
+
+    public PublicRouteMatcher(PublicRouteProperties properties) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+
+        properties.publicRoutes().forEach((routeId, publicRoutes) -> {
+            RouteTable table = new RouteTable();
+
+            for (PublicRouteProperties.PublicRoute publicRoute : publicRoutes) {
+                String method = publicRoute.method() == null || publicRoute.method().isBlank()
+                        ? ANY_METHOD
+                        : publicRoute.method().toUpperCase();
+                PathPattern pattern = parser.parse(publicRoute.path());
+
+                if (pattern.hasPatternSyntax()) {
+                    table.patterns.computeIfAbsent(method, m -> new ArrayList<>()).add(pattern);
+                } else {
+                    table.exactPaths.computeIfAbsent(method, m -> new HashSet<>()).add(pattern.getPatternString());
+                }
+            }
+
+            tablesByRouteId.put(routeId, table);
+        });
+    }
+
+    public boolean isPublic(String routeId, HttpMethod method, PathContainer path) {
+        if (routeId == null) return false;
+
+        RouteTable table = tablesByRouteId.get(routeId);
+        if (table == null) return false;
+
+        String methodName = method == null ? ANY_METHOD : method.name();
+
+        return table.matches(ANY_METHOD, path) || (!ANY_METHOD.equals(methodName) && table.matches(methodName, path));
+    }
+
+    // 패턴 전체가 공개 경로인지 (기동 시 설정 검증용)
+    // 변수/와일드카드가 있으면 같은 패턴으로 등록된 공개 경로가 있어야 함 (더 넓은 패턴은 공개 아닌 경로까지 포함할 수 있음)
+    public boolean isPublicPattern(String routeId, HttpMethod method, String path) {
+        PathPattern pattern = PathPatternParser.defaultInstance.parse(path);
+        if (!pattern.hasPatternSyntax()) return isPublic(routeId, method, PathContainer.parsePath(pattern.getPatternString()));
+
+        if (routeId == null) return false;
+
+        RouteTable table = tablesByRouteId.get(routeId);
+        if (table == null) return false;
+
+        return table.hasPattern(ANY_METHOD, pattern) || (method != null && table.hasPattern(method.name(), pattern));
+    }
+
+    private static class RouteTable {
+        private final Map<String, Set<String>> exactPaths = new HashMap<>();
+        private final Map<String, List<PathPattern>> patterns = new HashMap<>();
+
+        private boolean matches(String method, PathContainer path) {
+            Set<String> exact = exactPaths.get(method);
+            if (exact != null && exact.contains(path.value())) return true;
+
+            List<PathPattern> methodPatterns = patterns.get(method);
+            if (methodPatterns == null) return false;
+
+            for (PathPattern pattern : methodPatterns) {
+                if (pattern.matches(path)) return true;
+            }
+
+            return false;
+        }
+
+        private boolean hasPattern(String method, PathPattern pattern) {
+            List<PathPattern> methodPatterns = patterns.get(method);
+            return methodPatterns != null && methodPatterns.contains(pattern);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.back.filter;
+
+import com.back.error.GatewayError;
+import com.back.error.GatewayErrorResponseWriter;
+import com.back.ratelimit.ClientIpResolver;
+import com.back.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+// 요청 제한 (custom.rateLimit)
+// 인증 필터 다음에 실행되어 회원 id 기준으로 제한하고, 비로그인 요청은 IP 기준 (ClientIpResolver)
+@Component
+@RequiredArgsConstructor
+public class RateLimitGlobalFilter implements GlobalFilter, Ordered {
+    private final RateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
+    private final GatewayErrorResponseWriter errorResponseWriter;
+
+    @Override
+    public int getOrder() {
+        // AuthenticationGlobalFilter(-1) 다음
+        return 0;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(
+                route != null ? route.getId() : null,
+                request.getMethod(),
+                request.getPath().pathWithinApplication(),
+                clientKey(exchange)
+        );
+
+        if (!decision.allowed()) {
+            return tooManyRequests(exchange, decision.retryAfterSeconds());
+        }
+
+        if (decision.bucket() == null) {
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange)
+                .doFinally(signal -> decision.release());
+    }
+
+    private String clientKey(ServerWebExchange exchange) {
+        Integer memberId = exchange.getAttribute(AuthenticationGlobalFilter.AUTHENTICATED_MEMBER_ID_ATTR);
+        if (memberId != null) return "m:" + memberId;
+
+        String clientIp = clientIpResolver.resolve(exchange.getRequest());
+        if (clientIp == null) return "ip:unknown";
+
+        return "ip:" + clientIp;
+    }
+
+    private Mono<Void> tooManyRequests(ServerWebExchange exchange, long retryAfterSeconds) {
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return errorResponseWriter.write(exchange, GatewayError.TOO_MANY_REQUESTS);
+    }
+}
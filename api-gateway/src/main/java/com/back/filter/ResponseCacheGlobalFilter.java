@@ -0,0 +1,180 @@
+package com.back.filter;
+
+import com.back.cache.ResponseCache;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 공개 GET 응답 캐시 (custom.responseCache)
+// - HIT: post-service를 거치지 않고 저장된 응답 반환
+// - If-None-Match가 ETag와 같으면 본문 없이 304
+// 응답 본문을 가로채야 하므로 NettyWriteResponseFilter(-1)보다 앞에서 실행
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheGlobalFilter implements GlobalFilter, Ordered {
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final ResponseCache responseCache;
+
+    @Override
+    public int getOrder() {
+        return -2;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET) return chain.filter(exchange);
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        ResponseCache.CacheTarget target = responseCache.resolve(
+                route != null ? route.getId() : null,
+                request.getPath().pathWithinApplication(),
+                request.getURI().getRawQuery()
+        );
+
+        if (target == null) return chain.filter(exchange);
+
+        ResponseCache.CachedResponse cached = responseCache.get(target);
+        if (cached != null) return writeCached(exchange, cached);
+
+        ServerHttpResponse decoratedResponse = new CachingResponse(exchange, target);
+        return chain.filter(exchange.mutate().response(decoratedResponse).build());
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, ResponseCache.CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.eTag());
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+
+        if (isNotModified(exchange.getRequest(), cached.eTag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.contentType() != null) headers.set(HttpHeaders.CONTENT_TYPE, cached.contentType());
+        headers.setContentLength(cached.body().length);
+
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static boolean isNotModified(ServerHttpRequest request, String eTag) {
+        for (String candidate : request.getHeaders().getIfNoneMatch()) {
+            if ("*".equals(candidate)) return true;
+
+            String strong = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+            if (strong.equals(eTag)) return true;
+        }
+
+        return false;
+    }
+
+    // 200 응답 본문을 모아서 캐시에 저장한 뒤 그대로 내보냄
+    private class CachingResponse extends ServerHttpResponseDecorator {
+        private final ServerWebExchange exchange;
+        private final ResponseCache.CacheTarget target;
+
+        CachingResponse(ServerWebExchange exchange, ResponseCache.CacheTarget target) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.target = target;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+
+            // 쿠키를 내려주는 응답은 사용자별 응답일 수 있으므로 저장하지 않음
+            if (status == null || status.value() != HttpStatus.OK.value() || getHeaders().containsHeader(HttpHeaders.SET_COOKIE)) {
+                return super.writeWith(body);
+            }
+
+            int maxBodyBytes = responseCache.maxBodyBytes();
+
+            // 크기를 미리 알면 모으지 않고 바로 흘려보냄
+            if (getHeaders().getContentLength() > maxBodyBytes) {
+                getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+                return super.writeWith(body);
+            }
+
+            // 크기를 모르면 maxBodyBytes까지만 모으고, 넘는 순간 모은 버퍼 + 나머지를 그대로 흘려보냄
+            AtomicInteger size = new AtomicInteger();
+
+            return Flux.from(body)
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > maxBodyBytes)
+                    .switchOnFirst((first, buffers) -> {
+                        if (!first.hasValue()) return storeAndWrite(new byte[0]);
+
+                        if (size.get() > maxBodyBytes) {
+                            getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+                            return super.writeWith(buffers.concatMap(Flux::fromIterable));
+                        }
+
+                        // 넘지 않았으면 첫 묶음이 본문 전체
+                        return buffers.next().flatMap(whole -> storeAndWrite(toBytes(whole, size.get())));
+                    })
+                    .then();
+        }
+
+        private static byte[] toBytes(List<DataBuffer> buffers, int size) {
+            byte[] bytes = new byte[size];
+            int offset = 0;
+
+            for (DataBuffer buffer : buffers) {
+                int length = buffer.readableByteCount();
+                buffer.read(bytes, offset, length);
+                offset += length;
+                DataBufferUtils.release(buffer);
+            }
+
+            return bytes;
+        }
+
+        private Mono<Void> storeAndWrite(byte[] bytes) {
+            MediaType contentType = getHeaders().getContentType();
+            ResponseCache.CachedResponse stored = responseCache.put(
+                    target,
+                    contentType != null ? contentType.toString() : null,
+                    bytes
+            );
+
+            String eTag = stored != null ? stored.eTag() : ResponseCache.eTag(bytes);
+            getHeaders().setETag(eTag);
+            getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+
+            if (isNotModified(exchange.getRequest(), eTag)) {
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+                return setComplete();
+            }
+
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.back.kafka;
+
+import com.back.cache.ApiKeyMemberCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// 회원 정보 변경(닉네임, apiKey 교체 등) 시 Gateway 인증 캐시를 즉시 무효화
+// 모든 Gateway 인스턴스가 이벤트를 받아야 하므로 groupId는 인스턴스마다 다르게 설정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthCacheKafkaListener {
+    public static final String MEMBER_JOINED = "member.joined";
+    public static final String MEMBER_MODIFIED = "member.modified";
+
+    private final ApiKeyMemberCache apiKeyMemberCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = {MEMBER_JOINED, MEMBER_MODIFIED}, groupId = "${custom.kafka.groupId}")
+    public void handleMemberChanged(String payload) {
+        int memberId;
+
+        try {
+            JsonNode member = objectMapper.readTree(payload).path("member");
+            memberId = member.path("id").asInt(0);
+        } catch (Exception e) {
+            log.warn("Failed to parse member event payload: {}", e.getMessage());
+            return;
+        }
+
+        if (memberId == 0) return;
+
+        int evicted = apiKeyMemberCache.evictByMemberId(memberId);
+        log.debug("Evicted {} apiKey cache entries for memberId={}", evicted, memberId);
+    }
+}
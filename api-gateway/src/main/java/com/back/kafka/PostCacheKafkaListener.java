@@ -0,0 +1,45 @@
+package com.back.kafka;
+
+import com.back.cache.ResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// 게시물/댓글 생성 시 Gateway 응답 캐시 무효화
+// AuthCacheKafkaListener와 같이 인스턴스마다 다른 groupId로 모든 Gateway가 수신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCacheKafkaListener {
+    public static final String POST_CREATED = "post.created";
+    public static final String POST_COMMENT_CREATED = "post.comment.created";
+
+    private final ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = POST_CREATED, groupId = "${custom.kafka.groupId}")
+    public void handlePostCreated(String payload) {
+        int postId = readId(payload, "post", "id");
+        responseCache.invalidateForPostCreated(postId);
+    }
+
+    @KafkaListener(topics = POST_COMMENT_CREATED, groupId = "${custom.kafka.groupId}")
+    public void handlePostCommentCreated(String payload) {
+        int postId = readId(payload, "postComment", "postId");
+
+        if (postId == 0) return;
+
+        responseCache.invalidateForPost(postId);
+    }
+
+    private int readId(String payload, String field, String idField) {
+        try {
+            return objectMapper.readTree(payload).path(field).path(idField).asInt(0);
+        } catch (Exception e) {
+            log.warn("Failed to parse post event payload: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
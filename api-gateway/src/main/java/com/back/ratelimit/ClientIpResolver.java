@@ -0,0 +1,81 @@
+package com.back.ratelimit;
+
+import com.back.config.RateLimitProperties;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+// 요청 제한 키로 쓸 클라이언트 IP
+// - 직접 연결한 주소가 신뢰하는 프록시(Ingress 등)일 때만 X-Forwarded-For를 읽음
+// - X-Forwarded-For를 오른쪽(가까운 프록시)부터 보면서 신뢰하는 프록시가 아닌 첫 주소를 클라이언트로 봄
+//   (클라이언트가 왼쪽에 임의 값을 넣어도 무시됨)
+@Component
+public class ClientIpResolver {
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(RateLimitProperties properties) {
+        this.trustedProxies = properties.trustedProxies()
+                .stream()
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    // 알 수 없으면 null
+    public String resolve(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) return null;
+
+        String remoteIp = remoteAddress.getAddress().getHostAddress();
+        if (!isTrusted(remoteIp)) return remoteIp;
+
+        List<String> forwardedFor = request.getHeaders().getValuesAsList(X_FORWARDED_FOR);
+
+        String client = remoteIp;
+        for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+            String ip = forwardedFor.get(i).trim();
+            if (ip.isEmpty()) continue;
+
+            // IP가 아닌 값은 프록시가 쓴 것이 아니므로 거기서 멈추고 바로 오른쪽 주소 사용
+            if (!isIpLiteral(ip)) break;
+
+            client = ip;
+            if (!isTrusted(ip)) break;
+        }
+
+        return client;
+    }
+
+    // 숫자/점/콜론으로만 된 값 (호스트 이름이면 IpAddressMatcher가 DNS 조회를 할 수 있으므로 미리 거름)
+    private static boolean isIpLiteral(String value) {
+        boolean separator = false;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == '.' || c == ':') {
+                separator = true;
+            } else if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+
+        return separator;
+    }
+
+    private boolean isTrusted(String ip) {
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            try {
+                if (trustedProxy.matches(ip)) return true;
+            } catch (IllegalArgumentException e) {
+                // 헤더에 IP가 아닌 값이 들어온 경우
+                return false;
+            }
+        }
+        return false;
+    }
+}
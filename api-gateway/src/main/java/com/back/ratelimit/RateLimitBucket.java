@@ -0,0 +1,39 @@
+package com.back.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// GCRA(Generic Cell Rate Algorithm) 토큰 버킷
+// 상태는 "다음 요청의 이론적 도착 시각(tat)" 하나라서 CAS 한 번으로 갱신 (락 없음)
+class RateLimitBucket {
+    private final AtomicLong theoreticalArrivalNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    RateLimitBucket(long nowNanos) {
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    // 허용되면 0, 아니면 다시 시도할 수 있을 때까지 남은 나노초
+    long tryAcquire(long nowNanos, long emissionIntervalNanos, long burstToleranceNanos) {
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            // nanoTime은 오버플로될 수 있으므로 차이로 비교
+            long newTat = (tat - nowNanos < 0 ? nowNanos : tat) + emissionIntervalNanos;
+            long waitNanos = newTat - nowNanos - burstToleranceNanos;
+
+            if (waitNanos > 0) return waitNanos;
+            if (theoreticalArrivalNanos.compareAndSet(tat, newTat)) return 0;
+        }
+    }
+
+    boolean tryEnter(int maxConcurrent) {
+        if (inFlight.incrementAndGet() <= maxConcurrent) return true;
+
+        inFlight.decrementAndGet();
+        return false;
+    }
+
+    void exit() {
+        inFlight.decrementAndGet();
+    }
+}
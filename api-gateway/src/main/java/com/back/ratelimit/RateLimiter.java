@@ -0,0 +1,167 @@
+package com.back.ratelimit;
+
+import com.back.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 규칙 매칭 + 키별 버킷 관리
+// - 규칙은 기동 시 1회 컴파일
+// - 버킷은 Caffeine에 보관 (내부적으로 분할된 해시 테이블, 최대 개수 + 미사용 만료로 메모리 상한)
+@Component
+public class RateLimiter {
+    private final boolean enabled;
+    private final List<CompiledRule> rules = new ArrayList<>();
+    private final CompiledRule defaultRule;
+    private final Cache<String, RateLimitBucket> buckets;
+    private final Counter rateRejected;
+    private final Counter concurrencyRejected;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+
+        for (int i = 0; i < properties.rules().size(); i++) {
+            RateLimitProperties.Rule rule = properties.rules().get(i);
+
+            rules.add(new CompiledRule(
+                    rule.name() == null ? "rule-" + i : rule.name(),
+                    rule.routeId(),
+                    rule.method() == null || rule.method().isBlank() ? null : HttpMethod.valueOf(rule.method().toUpperCase()),
+                    rule.path() == null || rule.path().isBlank() ? null : parser.parse(rule.path()),
+                    Policy.of(rule.limit())
+            ));
+        }
+
+        this.defaultRule = new CompiledRule("default", null, null, null, Policy.of(properties.defaultRule()));
+
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxKeys())
+                .expireAfterAccess(Duration.ofSeconds(properties.idleExpireSeconds()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "gateway.rateLimit.buckets");
+
+        this.rateRejected = Counter.builder("gateway.rateLimit.rejected")
+                .tag("reason", "rate")
+                .register(meterRegistry);
+        this.concurrencyRejected = Counter.builder("gateway.rateLimit.rejected")
+                .tag("reason", "concurrency")
+                .register(meterRegistry);
+    }
+
+    public Decision tryAcquire(String routeId, HttpMethod method, PathContainer path, String clientKey) {
+        if (!enabled) return Decision.UNLIMITED;
+
+        CompiledRule rule = match(routeId, method, path);
+        if (rule.policy.isUnlimited()) return Decision.UNLIMITED;
+
+        long now = System.nanoTime();
+        RateLimitBucket bucket = buckets.get(rule.name + ":" + clientKey, key -> new RateLimitBucket(now));
+
+        if (rule.policy.rateLimited()) {
+            long waitNanos = bucket.tryAcquire(now, rule.policy.emissionIntervalNanos, rule.policy.burstToleranceNanos);
+
+            if (waitNanos > 0) {
+                rateRejected.increment();
+                return Decision.rejected(waitNanos);
+            }
+        }
+
+        if (rule.policy.maxConcurrent > 0) {
+            if (!bucket.tryEnter(rule.policy.maxConcurrent)) {
+                concurrencyRejected.increment();
+                return Decision.rejected(TimeUnit.SECONDS.toNanos(1));
+            }
+
+            return Decision.acquired(bucket);
+        }
+
+        return Decision.UNLIMITED;
+    }
+
+    private CompiledRule match(String routeId, HttpMethod method, PathContainer path) {
+        for (CompiledRule rule : rules) {
+            if (rule.matches(routeId, method, path)) return rule;
+        }
+
+        return defaultRule;
+    }
+
+    private record CompiledRule(
+            String name,
+            String routeId,
+            HttpMethod method,
+            PathPattern path,
+            Policy policy
+    ) {
+        boolean matches(String routeId, HttpMethod method, PathContainer path) {
+            if (this.routeId != null && !this.routeId.equals(routeId)) return false;
+            if (this.method != null && !this.method.equals(method)) return false;
+            return this.path == null || this.path.matches(path);
+        }
+    }
+
+    private record Policy(
+            long emissionIntervalNanos,
+            long burstToleranceNanos,
+            int maxConcurrent
+    ) {
+        static Policy of(RateLimitProperties.Limit limit) {
+            if (limit.replenishPerSecond() <= 0) return new Policy(0, 0, limit.maxConcurrent());
+
+            long emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / limit.replenishPerSecond());
+            // burst개까지는 연속으로 허용
+            long burstToleranceNanos = emissionIntervalNanos * Math.max(1, limit.burst());
+
+            return new Policy(emissionIntervalNanos, burstToleranceNanos, limit.maxConcurrent());
+        }
+
+        boolean rateLimited() {
+            return emissionIntervalNanos > 0;
+        }
+
+        boolean isUnlimited() {
+            return !rateLimited() && maxConcurrent <= 0;
+        }
+    }
+
+    // allowed이면서 bucket이 있으면 응답 완료 후 release() 필요 (동시 처리 수 반환)
+    public record Decision(
+            boolean allowed,
+            long retryAfterNanos,
+            RateLimitBucket bucket
+    ) {
+        static final Decision UNLIMITED = new Decision(true, 0, null);
+
+        static Decision acquired(RateLimitBucket bucket) {
+            return new Decision(true, 0, bucket);
+        }
+
+        static Decision rejected(long retryAfterNanos) {
+            return new Decision(false, retryAfterNanos, null);
+        }
+
+        public long retryAfterSeconds() {
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+
+        public void release() {
+            if (bucket != null) bucket.exit();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.back.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdentityTokenSignerTest {
+    static final String SECRET_KEY = "identity-test-secret-0123456789abcdef";
+
+    // common의 InternalIdentityVerifierTest와 같은 값 (서명 형식이 바뀌면 양쪽 모두 깨짐)
+    static final String GOLDEN = "v1.12345.4102444800.dXNlcjEyMzQ1.7ZqM7JuQMTIzNDU.0XwEvdt36onXBBdJ4Ts8u3pO3kEqyC9aKrwGEdeh6xc";
+
+    private static IdentityTokenSigner signer(long nowEpochSecond, long ttlSeconds) {
+        return new IdentityTokenSigner(SECRET_KEY, ttlSeconds, Clock.fixed(Instant.ofEpochSecond(nowEpochSecond), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("고정된 시각 / 키로 서명하면 검증기와 약속한 값과 같음")
+    void goldenVector() {
+        assertThat(signer(4102444800L - 60, 60).sign(12345, "user12345", "회원12345")).isEqualTo(GOLDEN);
+    }
+
+    @Test
+    @DisplayName("만료 시각은 현재 + ttlSeconds")
+    void expiration() {
+        String identity = signer(1_000, 30).sign(1, "a", "b");
+
+        assertThat(identity).startsWith("v1.1.1030.");
+    }
+
+    @Test
+    @DisplayName("null 닉네임은 빈 문자열로, 결과는 구분자 5개의 ASCII")
+    void nullNicknameAndAsciiOnly() {
+        String identity = signer(1_000, 30).sign(1, "한글.user", null);
+
+        assertThat(identity.chars().filter(c -> c == '.').count()).isEqualTo(5);
+        assertThat(identity.chars().allMatch(c -> c < 0x80)).isTrue();
+        assertThat(identity.split("\\.")[4]).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 연속 서명해도 이전 서명의 상태가 남지 않음")
+    void macReuse() {
+        IdentityTokenSigner signer = signer(4102444800L - 60, 60);
+
+        signer.sign(1, "other", "other");
+
+        assertThat(signer.sign(12345, "user12345", "회원12345")).isEqualTo(GOLDEN);
+    }
+}
@@ -0,0 +1,88 @@
+package com.back.ratelimit;
+
+import com.back.config.RateLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+    private static final String INGRESS = "10.0.0.5";
+
+    private final ClientIpResolver resolver = new ClientIpResolver(
+            new RateLimitProperties(true, 0, 0, null, null, List.of("10.0.0.0/8", "127.0.0.1/32"))
+    );
+
+    private static ServerHttpRequest request(String remoteIp, String... forwardedFor) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get("/api/v1/post/posts")
+                .remoteAddress(new InetSocketAddress(remoteIp, 40000));
+
+        if (forwardedFor.length > 0) builder.header("X-Forwarded-For", forwardedFor);
+
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 직접 온 요청은 X-Forwarded-For를 무시")
+    void untrustedRemoteIgnoresHeader() {
+        assertThat(resolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시 뒤에서는 프록시가 덧붙인 클라이언트 주소 사용")
+    void trustedProxy() {
+        assertThat(resolver.resolve(request(INGRESS, "198.51.100.1"))).isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    @DisplayName("클라이언트가 왼쪽에 넣은 위조 주소는 무시하고 오른쪽에서 첫 번째 신뢰하지 않는 주소 사용")
+    void spoofedLeftmostIgnored() {
+        // 클라이언트가 "1.1.1.1"을 보내고 Ingress가 실제 주소 198.51.100.1을 덧붙인 경우
+        assertThat(resolver.resolve(request(INGRESS, "1.1.1.1, 198.51.100.1"))).isEqualTo("198.51.100.1");
+
+        // 헤더가 여러 줄로 온 경우도 같음
+        assertThat(resolver.resolve(request(INGRESS, "1.1.1.1", "198.51.100.1"))).isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    @DisplayName("여러 단계의 신뢰하는 프록시는 건너뜀")
+    void multipleTrustedHops() {
+        assertThat(resolver.resolve(request(INGRESS, "198.51.100.1, 10.1.2.3, 10.4.5.6"))).isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    @DisplayName("모두 신뢰하는 주소면 가장 왼쪽 주소, 헤더가 없으면 직접 연결한 주소")
+    void allTrustedOrMissing() {
+        assertThat(resolver.resolve(request(INGRESS, "10.1.2.3, 10.4.5.6"))).isEqualTo("10.1.2.3");
+        assertThat(resolver.resolve(request(INGRESS))).isEqualTo(INGRESS);
+    }
+
+    @Test
+    @DisplayName("IP가 아닌 값에서 멈추고 바로 오른쪽 주소 사용 (호스트 이름 조회 없음)")
+    void nonIpValues() {
+        assertThat(resolver.resolve(request(INGRESS, "attacker.example.com, 10.4.5.6"))).isEqualTo("10.4.5.6");
+        assertThat(resolver.resolve(request(INGRESS, "unknown"))).isEqualTo(INGRESS);
+        assertThat(resolver.resolve(request(INGRESS, "not an ip, 198.51.100.1"))).isEqualTo("198.51.100.1");
+        // 빈 항목은 건너뜀
+        assertThat(resolver.resolve(request(INGRESS, "198.51.100.1, , "))).isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    @DisplayName("IPv6 주소도 처리")
+    void ipv6() {
+        assertThat(resolver.resolve(request(INGRESS, "2001:db8::1"))).isEqualTo("2001:db8::1");
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시 설정이 없으면 항상 직접 연결한 주소")
+    void noTrustedProxies() {
+        ClientIpResolver resolver = new ClientIpResolver(new RateLimitProperties(true, 0, 0, null, null, null));
+
+        assertThat(resolver.resolve(request(INGRESS, "198.51.100.1"))).isEqualTo(INGRESS);
+    }
+}
@@ -0,0 +1,106 @@
+package com.back.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitBucketTest {
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int BURST = 3;
+    private static final long TOLERANCE = INTERVAL * BURST;
+
+    @Test
+    @DisplayName("같은 시각에는 burst개까지 허용하고 그다음은 한 간격만큼 기다려야 함")
+    void burstBoundary() {
+        long now = 1_000_000_000L;
+        RateLimitBucket bucket = new RateLimitBucket(now);
+
+        for (int i = 0; i < BURST; i++) {
+            assertThat(bucket.tryAcquire(now, INTERVAL, TOLERANCE)).isZero();
+        }
+
+        assertThat(bucket.tryAcquire(now, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 상태를 바꾸지 않음")
+    void rejectionDoesNotConsume() {
+        long now = 1_000_000_000L;
+        RateLimitBucket bucket = new RateLimitBucket(now);
+
+        for (int i = 0; i < BURST; i++) bucket.tryAcquire(now, INTERVAL, TOLERANCE);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryAcquire(now, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+        }
+
+        assertThat(bucket.tryAcquire(now + INTERVAL, INTERVAL, TOLERANCE)).isZero();
+    }
+
+    @Test
+    @DisplayName("간격마다 하나씩 보충되고, 오래 쉬어도 burst를 넘겨 쌓이지 않음")
+    void refill() {
+        long now = 1_000_000_000L;
+        RateLimitBucket bucket = new RateLimitBucket(now);
+
+        for (int i = 0; i < BURST; i++) bucket.tryAcquire(now, INTERVAL, TOLERANCE);
+
+        // 반 간격 뒤에는 아직 부족
+        assertThat(bucket.tryAcquire(now + INTERVAL / 2, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL / 2);
+
+        // 한 간격 뒤 하나
+        assertThat(bucket.tryAcquire(now + INTERVAL, INTERVAL, TOLERANCE)).isZero();
+        assertThat(bucket.tryAcquire(now + INTERVAL, INTERVAL, TOLERANCE)).isPositive();
+
+        // 한참 뒤에도 burst개까지만
+        long later = now + TimeUnit.SECONDS.toNanos(60);
+        for (int i = 0; i < BURST; i++) {
+            assertThat(bucket.tryAcquire(later, INTERVAL, TOLERANCE)).isZero();
+        }
+        assertThat(bucket.tryAcquire(later, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    @DisplayName("nanoTime이 Long.MAX_VALUE를 넘어 음수로 넘어가도 같은 규칙으로 동작")
+    void nanoTimeWraparound() {
+        long start = Long.MAX_VALUE - INTERVAL / 2;
+        RateLimitBucket bucket = new RateLimitBucket(start);
+
+        for (int i = 0; i < BURST; i++) {
+            assertThat(bucket.tryAcquire(start, INTERVAL, TOLERANCE)).isZero();
+        }
+        assertThat(bucket.tryAcquire(start, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+
+        // start + INTERVAL은 오버플로되어 음수
+        long afterWrap = start + INTERVAL;
+        assertThat(afterWrap).isNegative();
+
+        assertThat(bucket.tryAcquire(afterWrap, INTERVAL, TOLERANCE)).isZero();
+        assertThat(bucket.tryAcquire(afterWrap, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+
+        // 오래 지난 뒤(음수 영역)에도 burst개까지 다시 허용
+        long muchLater = afterWrap + TimeUnit.SECONDS.toNanos(10);
+        for (int i = 0; i < BURST; i++) {
+            assertThat(bucket.tryAcquire(muchLater, INTERVAL, TOLERANCE)).isZero();
+        }
+        assertThat(bucket.tryAcquire(muchLater, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    @DisplayName("동시 처리 수는 maxConcurrent까지, exit 후 다시 들어올 수 있음")
+    void concurrency() {
+        RateLimitBucket bucket = new RateLimitBucket(0);
+
+        assertThat(bucket.tryEnter(2)).isTrue();
+        assertThat(bucket.tryEnter(2)).isTrue();
+        assertThat(bucket.tryEnter(2)).isFalse();
+
+        bucket.exit();
+
+        assertThat(bucket.tryEnter(2)).isTrue();
+        assertThat(bucket.tryEnter(2)).isFalse();
+    }
+}
@@ -0,0 +1,174 @@
+package com.back.ratelimit;
+
+import com.back.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+    private static final String CONFIRM_PATH = "/api/v1/market/orders/{id}/payment/confirm/by/tossPayments";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RateLimiter rateLimiter(RateLimitProperties.Limit defaultRule, RateLimitProperties.Rule... rules) {
+        return new RateLimiter(
+                new RateLimitProperties(true, 1000, 600, defaultRule, List.of(rules), List.of()),
+                meterRegistry
+        );
+    }
+
+    private static PathContainer path(String path) {
+        return PathContainer.parsePath(path);
+    }
+
+    @Test
+    @DisplayName("routeId / method / path가 모두 맞는 첫 규칙 적용, 아니면 기본 규칙")
+    void ruleMatching() {
+        RateLimiter rateLimiter = rateLimiter(
+                new RateLimitProperties.Limit(0, 0, 0),
+                new RateLimitProperties.Rule("confirm", "market-service", "POST", CONFIRM_PATH, 0.001, 1, 0),
+                // 위 규칙과 겹치지만 먼저 일치한 규칙이 적용되어야 함
+                new RateLimitProperties.Rule("market", "market-service", null, null, 0.001, 5, 0)
+        );
+
+        PathContainer confirm = path("/api/v1/market/orders/7/payment/confirm/by/tossPayments");
+
+        assertThat(rateLimiter.tryAcquire("market-service", HttpMethod.POST, confirm, "m:1").allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("market-service", HttpMethod.POST, confirm, "m:1").allowed()).isFalse();
+
+        // 다른 키는 따로 계산
+        assertThat(rateLimiter.tryAcquire("market-service", HttpMethod.POST, confirm, "m:2").allowed()).isTrue();
+
+        // method가 다르면 두 번째 규칙 (burst 5)
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("market-service", HttpMethod.GET, confirm, "m:1").allowed()).isTrue();
+        }
+        assertThat(rateLimiter.tryAcquire("market-service", HttpMethod.GET, confirm, "m:1").allowed()).isFalse();
+
+        // routeId가 다르면 기본 규칙 (제한 없음)
+        for (int i = 0; i < 100; i++) {
+            RateLimiter.Decision decision = rateLimiter.tryAcquire("post-service", HttpMethod.POST, confirm, "m:1");
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.bucket()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("거절되면 다음 토큰까지 남은 시간을 올림한 초로 Retry-After 제공")
+    void retryAfter() {
+        RateLimiter rateLimiter = rateLimiter(new RateLimitProperties.Limit(0.2, 1, 0));
+
+        assertThat(rateLimiter.tryAcquire("any", HttpMethod.GET, path("/a"), "ip:1.2.3.4").allowed()).isTrue();
+
+        RateLimiter.Decision rejected = rateLimiter.tryAcquire("any", HttpMethod.GET, path("/a"), "ip:1.2.3.4");
+
+        assertThat(rejected.allowed()).isFalse();
+        // 0.2/s → 다음 토큰까지 최대 5초
+        assertThat(rejected.retryAfterSeconds()).isBetween(1L, 5L);
+        assertThat(meterRegistry.get("gateway.rateLimit.rejected").tag("reason", "rate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Retry-After는 1초 미만이어도 1, 나머지는 올림")
+    void retryAfterRounding() {
+        assertThat(new RateLimiter.Decision(false, 1, null).retryAfterSeconds()).isEqualTo(1);
+        assertThat(new RateLimiter.Decision(false, TimeUnit.SECONDS.toNanos(1), null).retryAfterSeconds()).isEqualTo(1);
+        assertThat(new RateLimiter.Decision(false, TimeUnit.SECONDS.toNanos(1) + 1, null).retryAfterSeconds()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 처리 제한: release 전까지는 거절, release 후 다시 허용")
+    void concurrencyRelease() {
+        RateLimiter rateLimiter = rateLimiter(
+                new RateLimitProperties.Limit(0, 0, 0),
+                new RateLimitProperties.Rule("confirm", null, "POST", CONFIRM_PATH, 0, 0, 1)
+        );
+
+        PathContainer confirm = path("/api/v1/market/orders/7/payment/confirm/by/tossPayments");
+
+        RateLimiter.Decision first = rateLimiter.tryAcquire("market-service", HttpMethod.POST, confirm, "m:1");
+        assertThat(first.allowed()).isTrue();
+        assertThat(first.bucket()).isNotNull();
+
+        assertThat(rateLimiter.tryAcquire("market-service", HttpMethod.POST, confirm, "m:1").allowed()).isFalse();
+        assertThat(meterRegistry.get("gateway.rateLimit.rejected").tag("reason", "concurrency").counter().count()).isEqualTo(1);
+
+        first.release();
+
+        RateLimiter.Decision second = rateLimiter.tryAcquire("market-service", HttpMethod.POST, confirm, "m:1");
+        assertThat(second.allowed()).isTrue();
+        second.release();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 들어와도 동시 처리 수를 넘지 않고, 모두 release하면 0으로 돌아옴")
+    void concurrencyUnderContention() throws InterruptedException {
+        int maxConcurrent = 3;
+        RateLimiter rateLimiter = rateLimiter(new RateLimitProperties.Limit(0, 0, maxConcurrent));
+
+        int threads = 16;
+        int iterations = 2000;
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+
+                        for (int i = 0; i < iterations; i++) {
+                            RateLimiter.Decision decision = rateLimiter.tryAcquire("r", HttpMethod.GET, path("/a"), "m:1");
+                            if (!decision.allowed()) continue;
+
+                            maxObserved.accumulateAndGet(current.incrementAndGet(), Math::max);
+                            current.decrementAndGet();
+                            decision.release();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            start.countDown();
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(maxConcurrent);
+
+        // 모두 반환되었으면 다시 maxConcurrent개까지 들어갈 수 있음
+        for (int i = 0; i < maxConcurrent; i++) {
+            assertThat(rateLimiter.tryAcquire("r", HttpMethod.GET, path("/a"), "m:1").allowed()).isTrue();
+        }
+        assertThat(rateLimiter.tryAcquire("r", HttpMethod.GET, path("/a"), "m:1").allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 모두 허용")
+    void disabled() {
+        RateLimiter rateLimiter = new RateLimiter(
+                new RateLimitProperties(false, 1000, 600, new RateLimitProperties.Limit(0.001, 1, 1), List.of(), List.of()),
+                meterRegistry
+        );
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.tryAcquire("r", HttpMethod.GET, path("/a"), "m:1").allowed()).isTrue();
+        }
+    }
+}
@@ -8,6 +8,8 @@ import com.back.shared.cash.dto.CashMemberDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class CashCreateWalletUseCase {
@@ -20,4 +22,13 @@ public class CashCreateWalletUseCase {
 
         return walletRepository.save(wallet);
     }
+
+    // 스냅샷 적재처럼 한꺼번에 들어온 회원의 지갑 (호출한 트랜잭션 안에서)
+    public void createWallets(Collection<Integer> holderIds) {
+        walletRepository.saveAll(
+                holderIds.stream()
+                        .map(holderId -> new Wallet(cashMemberRepository.getReferenceById(holderId)))
+                        .toList()
+        );
+    }
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -22,8 +24,13 @@ public class CashFacade {
     private final CashCompletePayoutUseCase cashCompletePayoutUseCase;
 
     @Transactional
-    public CashMember syncMember(MemberDto member) {
-        return cashSyncMemberUseCase.syncMember(member);
+    public void syncMember(MemberDto member) {
+        cashSyncMemberUseCase.syncMembers(List.of(member));
+    }
+
+    @Transactional
+    public void syncMembers(Collection<MemberDto> members) {
+        cashSyncMemberUseCase.syncMembers(members);
     }
 
     @Transactional
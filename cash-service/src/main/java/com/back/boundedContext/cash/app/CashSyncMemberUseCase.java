@@ -1,42 +1,21 @@
 package com.back.boundedContext.cash.app;
 
-import com.back.boundedContext.cash.domain.CashMember;
-import com.back.boundedContext.cash.out.CashMemberRepository;
-import com.back.global.eventPublisher.EventPublisher;
-import com.back.shared.cash.event.CashMemberCreatedEvent;
 import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.replica.ReplicaMemberSyncer;
+import com.back.shared.member.replica.ReplicaMemberTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class CashSyncMemberUseCase {
-    private final CashMemberRepository cashMemberRepository;
-    private final EventPublisher eventPublisher;
-
-    public CashMember syncMember(MemberDto member) {
-        boolean isNew = !cashMemberRepository.existsById(member.id());
-
-        CashMember _member = cashMemberRepository.save(
-                new CashMember(
-                        member.id(),
-                        member.createDate(),
-                        member.modifyDate(),
-                        member.username(),
-                        "",
-                        member.nickname(),
-                        member.activityScore()
-                )
-        );
-
-        if (isNew) {
-            eventPublisher.publish(
-                    new CashMemberCreatedEvent(
-                            _member.toDto()
-                    )
-            );
-        }
+    private final ReplicaMemberSyncer replicaMemberSyncer;
+    private final ReplicaMemberTable cashReplicaMemberTable;
 
-        return _member;
+    // 새로 들어온 회원은 CashReplicaMemberConfig의 생성 이벤트가 발행됨
+    public void syncMembers(Collection<MemberDto> members) {
+        replicaMemberSyncer.sync(cashReplicaMemberTable, members);
     }
-}
\ No newline at end of file
+}
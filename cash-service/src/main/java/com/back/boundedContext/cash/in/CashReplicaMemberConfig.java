@@ -0,0 +1,32 @@
+package com.back.boundedContext.cash.in;
+
+import com.back.boundedContext.cash.app.CashCreateWalletUseCase;
+import com.back.shared.cash.dto.CashMemberDto;
+import com.back.shared.cash.event.CashMemberCreatedEvent;
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.replica.ReplicaMemberTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CashReplicaMemberConfig {
+    // 비어 있으면 기동 시 member-service 스냅샷으로 채움 (ReplicaMemberBootstrapper)
+    @Bean
+    public ReplicaMemberTable cashReplicaMemberTable(CashCreateWalletUseCase cashCreateWalletUseCase) {
+        return new ReplicaMemberTable(
+                "CASH_MEMBER",
+                "cash-service",
+                member -> new CashMemberCreatedEvent(
+                        new CashMemberDto(
+                                member.id(),
+                                member.createDate(),
+                                member.modifyDate(),
+                                member.username(),
+                                member.nickname(),
+                                member.activityScore()
+                        )
+                ),
+                members -> cashCreateWalletUseCase.createWallets(members.stream().map(MemberDto::id).toList())
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package com.back.global.kafka;
+
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.event.MemberModifiedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// 프로필별 KafkaEventPublisher 전송 비용 (stub broker: MockProducer, 즉시 ack)
+// - sendOne: send 1건 → ack까지 (SampleTime, p99), 트랜잭션 프로필은 레코드마다 Kafka 트랜잭션
+// - sendBatch: sendAll로 BATCH건 → 모든 ack까지 (ops/s = msgs/sec), 트랜잭션 프로필은 묶음 하나를 트랜잭션 하나로
+// 네트워크 / linger 대기 / 압축이 없으므로 프로필 간 차이는 클라이언트 쪽 비용(직렬화, 템플릿, 트랜잭션 begin·commit)만
+@State(Scope.Benchmark)
+public class KafkaProducerProfileBenchmark {
+    private static final int BATCH = 500;
+    // MockProducer 기록을 비우는 주기 (레코드 수)
+    private static final int CLEAR_EVERY = 10_000;
+
+    @Param({KafkaProducerProperties.LATENCY, KafkaProducerProperties.THROUGHPUT, KafkaProducerProperties.TRANSACTIONAL})
+    public String profile;
+
+    private StubBrokerProducers producers;
+    private KafkaEventPublisher publisher;
+    private MemberModifiedEvent event;
+    private List<KafkaEventPublisher.OutgoingEvent> batch;
+    private int sentSinceClear;
+
+    @Setup
+    public void setUp() {
+        producers = new StubBrokerProducers(new KafkaProducerProperties(
+                null,
+                null,
+                Map.of(KafkaTopics.MEMBER_MODIFIED, profile),
+                null,
+                null
+        ));
+        publisher = new KafkaEventPublisher(producers.profiles());
+
+        LocalDateTime now = LocalDateTime.now();
+        event = new MemberModifiedEvent(new MemberDto(12345, now, now, "user12345", "회원12345", 42));
+
+        batch = new ArrayList<>(BATCH);
+        for (int i = 1; i <= BATCH; i++) {
+            batch.add(new KafkaEventPublisher.OutgoingEvent(
+                    KafkaTopics.MEMBER_MODIFIED,
+                    new MemberModifiedEvent(new MemberDto(i, now, now, "user" + i, "회원" + i, i))
+            ));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        producers.destroy();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public SendResult<String, Object> sendOne() {
+        SendResult<String, Object> result = publisher.send(KafkaTopics.MEMBER_MODIFIED, event).join();
+        sent(1);
+        return result;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH)
+    public int sendBatch() {
+        List<CompletableFuture<SendResult<String, Object>>> futures = publisher.sendAll(batch);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        sent(BATCH);
+        return futures.size();
+    }
+
+    private void sent(int count) {
+        sentSinceClear += count;
+
+        if (sentSinceClear >= CLEAR_EVERY) {
+            producers.clear();
+            sentSinceClear = 0;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.back.global.kafka;
+
+import com.back.global.kafka.codec.EventSerializer;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 벤치마크용 stub broker: 프로필별 factory가 KafkaProducer 대신 MockProducer를 만듦
+// - KafkaTemplate / EventSerializer / Kafka 트랜잭션 begin·commit 호출은 실제와 같음
+// - 네트워크, linger 대기, 압축, 브로커 ack는 없음 (send 즉시 ack)
+public class StubBrokerProducers {
+    private final List<MockProducer<String, Object>> producers = new CopyOnWriteArrayList<>();
+    private final KafkaProducerProfiles profiles;
+
+    public StubBrokerProducers(KafkaProducerProperties properties) {
+        Map<String, DefaultKafkaProducerFactory<String, Object>> factories = new LinkedHashMap<>();
+
+        properties.profiles().forEach((name, profile) -> {
+            Map<String, Object> configProps = new HashMap<>();
+            configProps.put(EventSerializer.CODEC_CONFIG, properties.codec());
+            configProps.put(EventSerializer.TOPIC_CODECS_CONFIG, properties.topicCodecs());
+
+            DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(configProps) {
+                @Override
+                protected Producer<String, Object> createRawProducer(Map<String, Object> rawConfigs) {
+                    EventSerializer serializer = new EventSerializer();
+                    serializer.configure(rawConfigs, false);
+
+                    MockProducer<String, Object> producer = new MockProducer<>(true, null, new StringSerializer(), serializer);
+                    producers.add(producer);
+                    return producer;
+                }
+            };
+
+            if (profile.transactional()) {
+                factory.setTransactionIdPrefix("stub-%s-".formatted(name));
+            }
+
+            factories.put(name, factory);
+        });
+
+        this.profiles = new KafkaProducerProfiles(properties, factories);
+    }
+
+    public KafkaProducerProfiles profiles() {
+        return profiles;
+    }
+
+    // MockProducer는 보낸 레코드를 모두 기록하므로 주기적으로 비움
+    public void clear() {
+        producers.forEach(MockProducer::clear);
+    }
+
+    public void destroy() {
+        profiles.destroy();
+    }
+}
@@ -0,0 +1,79 @@
+package com.back.global.kafka.codec;
+
+import com.back.global.kafka.KafkaTopics;
+import com.back.shared.market.dto.OrderDto;
+import com.back.shared.market.event.MarketOrderPaymentRequestedEvent;
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.event.MemberJoinedEvent;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 이벤트 1건 인코딩 / 디코딩 ns/op: json(기존 JsonSerializer와 같은 본문) vs binary
+// bytes/event(본문 + EventSerializer가 붙이는 헤더)는 setUp에서 계산해서 출력 (실행 로그의 "bytes/event" 줄)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EventCodecBenchmark {
+    @Param({JsonEventCodec.NAME, BinaryEventCodec.NAME})
+    public String codec;
+
+    // member: 문자열 위주 (닉네임 한글), order: 숫자 / 날짜 위주
+    @Param({"member", "order"})
+    public String event;
+
+    private EventCodec eventCodec;
+    private Object sample;
+    private Class<?> type;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        eventCodec = EventCodecs.of(codec);
+
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 30, 15, 500_000_000);
+        sample = switch (event) {
+            case "member" -> new MemberJoinedEvent(new MemberDto(12345, now, now, "user12345", "회원12345", 42));
+            case "order" -> new MarketOrderPaymentRequestedEvent(
+                    new OrderDto(98765, now, now, 12345, "회원12345", 45_000, 39_000, now, null),
+                    39_000
+            );
+            default -> throw new IllegalArgumentException("Unknown event: " + event);
+        };
+        type = sample.getClass();
+        encoded = eventCodec.encode(sample);
+
+        // 실제 레코드와 같은 헤더로 크기 계산
+        EventSerializer serializer = new EventSerializer();
+        serializer.configure(Map.of(EventSerializer.CODEC_CONFIG, codec), false);
+
+        RecordHeaders headers = new RecordHeaders();
+        String topic = sample instanceof MemberJoinedEvent ? KafkaTopics.MEMBER_JOINED : KafkaTopics.MARKET_ORDER_PAYMENT_REQUESTED;
+        int body = serializer.serialize(topic, headers, sample).length;
+        int header = 0;
+        for (Header it : headers) header += it.key().length() + it.value().length;
+
+        System.out.printf("%s/%s bytes/event: %d (body %d + headers %d)%n", codec, event, body + header, body, header);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return eventCodec.encode(sample);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return eventCodec.decode(type, encoded);
+    }
+}
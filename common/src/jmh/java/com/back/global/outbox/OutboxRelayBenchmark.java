@@ -0,0 +1,159 @@
+package com.back.global.outbox;
+
+import com.back.global.kafka.KafkaEventPublisher;
+import com.back.global.kafka.KafkaProducerProperties;
+import com.back.global.kafka.KafkaTopics;
+import com.back.global.kafka.StubBrokerProducers;
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.event.MemberModifiedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// outbox 발행 전체 경로: 업무 트랜잭션에서 OutboxWriter 기록 → OutboxRelay가 잡기 / 전송 / ack 대기 / ship_date 기록
+// - DB는 H2(MySQL 모드), 브로커는 StubBrokerProducers(MockProducer, 즉시 ack) → 실제 DB / 네트워크 시간은 빠짐
+// - eventsPerSecond: EVENTS건을 기록한 뒤 relay가 모두 보낼 때까지 (ops/s = events/sec)
+// - publishLatency: 1건 기록 → relay 1회 → ack까지 (p99는 SampleTime 결과, relay 대기 pollIntervalMs는 제외)
+@State(Scope.Benchmark)
+public class OutboxRelayBenchmark {
+    private static final int EVENTS = 1_000;
+
+    // custom.outbox.relay.batchSize 후보
+    @Param({"100", "500"})
+    public int batchSize;
+
+    // member.modified 토픽에 지정할 producer 프로필
+    @Param({KafkaProducerProperties.THROUGHPUT, KafkaProducerProperties.TRANSACTIONAL})
+    public String profile;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private StubBrokerProducers producers;
+    private OutboxWriter outboxWriter;
+    private OutboxRelay relay;
+    private List<MemberModifiedEvent> events;
+    private MemberModifiedEvent event;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:outbox-bench-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"
+        );
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jdbcTemplate.execute("""
+                create table OUTBOX_EVENT (
+                    id bigint auto_increment primary key,
+                    topic varchar(255) not null,
+                    event_type varchar(255) not null,
+                    payload clob not null,
+                    create_date timestamp(6) not null,
+                    ship_date timestamp(6),
+                    attempts int not null,
+                    lease_until timestamp(6)
+                )
+                """);
+        jdbcTemplate.execute("create index IDX_OUTBOX_EVENT_SHIP_DATE_ID on OUTBOX_EVENT (ship_date, id)");
+
+        producers = new StubBrokerProducers(new KafkaProducerProperties(
+                null,
+                null,
+                Map.of(KafkaTopics.MEMBER_MODIFIED, profile),
+                null,
+                null
+        ));
+
+        ObjectMapper objectMapper = JsonMapper.builder().build();
+        KafkaEventPublisher publisher = new KafkaEventPublisher(producers.profiles());
+
+        outboxWriter = new OutboxWriter(jdbcTemplate, publisher, objectMapper);
+        relay = new OutboxRelay(
+                jdbcTemplate,
+                new NamedParameterJdbcTemplate(dataSource),
+                transactionTemplate,
+                publisher,
+                objectMapper,
+                true,
+                batchSize,
+                100,
+                10_000,
+                60_000,
+                10,
+                24,
+                new SimpleMeterRegistry()
+        );
+
+        LocalDateTime now = LocalDateTime.now();
+        events = new ArrayList<>(EVENTS);
+
+        for (int i = 1; i <= EVENTS; i++) {
+            events.add(new MemberModifiedEvent(new MemberDto(i, now, now, "user" + i, "회원" + i, i)));
+        }
+
+        event = events.getFirst();
+    }
+
+    // 보낸 행 / MockProducer 기록이 계속 쌓이지 않도록 iteration마다 비움
+    @TearDown(Level.Iteration)
+    public void clear() {
+        jdbcTemplate.update("delete from OUTBOX_EVENT");
+        producers.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        producers.destroy();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(EVENTS)
+    public int eventsPerSecond() {
+        transactionTemplate.executeWithoutResult(status -> outboxWriter.appendAll(events));
+
+        int relayed = 0;
+
+        while (relayed < EVENTS) {
+            int claimed = relay.relayOnce();
+            if (claimed == 0) throw new IllegalStateException("Relayed only %d of %d events".formatted(relayed, EVENTS));
+            relayed += claimed;
+        }
+
+        return relayed;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int publishLatency() {
+        transactionTemplate.executeWithoutResult(status -> outboxWriter.append(event));
+
+        return relay.relayOnce();
+    }
+}
@@ -0,0 +1,95 @@
+package com.back.standard.ut;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 액세스 토큰 서명 / 검증: 이전 Util.jwt(호출마다 SecretKey + JwtParser 생성) vs JwtCodec(시크릿별 1회 생성 후 재사용)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtCodecBenchmark {
+    private static final String SECRET = "abcdefghijklmnopqrstuvwxyz1234567890abcdefghijklmnopqrstuvwxyz1234567890";
+    private static final Map<String, Object> BODY = Map.of("id", 12345, "username", "user12345", "name", "회원12345");
+
+    private JwtCodec codec;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        codec = JwtCodec.of(SECRET);
+        token = codec.encode(3600, BODY);
+    }
+
+    @Benchmark
+    public String encodePerCall() {
+        return legacyToString(SECRET, 3600, BODY);
+    }
+
+    @Benchmark
+    public String encodeCodec() {
+        return codec.encode(3600, BODY);
+    }
+
+    @Benchmark
+    public Object decodePerCall() {
+        return legacyPayload(SECRET, token);
+    }
+
+    @Benchmark
+    public Object decodeCodec() {
+        return codec.decode(token).orElse(null);
+    }
+
+    // 이전 Util.jwt.toString 그대로
+    private static String legacyToString(String secret, int expireSeconds, Map<String, Object> body) {
+        ClaimsBuilder claimsBuilder = Jwts.claims();
+
+        for (Map.Entry<String, Object> entry : body.entrySet()) {
+            claimsBuilder.add(entry.getKey(), entry.getValue());
+        }
+
+        Claims claims = claimsBuilder.build();
+
+        Date issuedAt = new Date();
+        Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
+
+        Key secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+
+        return Jwts.builder()
+                .claims(claims)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    // 이전 Util.jwt.payload 그대로
+    private static Object legacyPayload(String secret, String jwtStr) {
+        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+
+        try {
+            return Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parse(jwtStr)
+                    .getPayload();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
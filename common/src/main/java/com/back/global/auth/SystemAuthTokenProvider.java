@@ -3,6 +3,9 @@ package com.back.global.auth;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
 @Component
 public class SystemAuthTokenProvider {
     @Value("${custom.system.apiKey}")
@@ -15,4 +18,15 @@ public class SystemAuthTokenProvider {
     public String getAuthorizationHeader() {
         return "Bearer " + systemApiKey + " empty";
     }
+
+    // "Bearer {apiKey} {accessToken}" 중 apiKey가 시스템 키인지
+    public boolean isSystemAuthorizationHeader(String headerAuthorization) {
+        if (headerAuthorization == null || !headerAuthorization.startsWith("Bearer ")) return false;
+
+        String[] bits = headerAuthorization.split(" ", 3);
+        return bits.length > 1 && MessageDigest.isEqual(
+                bits[1].getBytes(StandardCharsets.UTF_8),
+                systemApiKey.getBytes(StandardCharsets.UTF_8)
+        );
+    }
 }
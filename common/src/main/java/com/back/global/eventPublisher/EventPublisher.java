@@ -1,20 +1,29 @@
 package com.back.global.eventPublisher;
 
-import com.back.global.kafka.KafkaEventPublisher;
+import com.back.global.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class EventPublisher {
     private final ApplicationEventPublisher applicationEventPublisher;
-    private final KafkaEventPublisher kafkaEventPublisher;
+    private final OutboxWriter outboxWriter;
 
     public void publish(Object event) {
         // Local event for same-service listeners
         applicationEventPublisher.publishEvent(event);
         // Kafka event for cross-service communication
-        kafkaEventPublisher.publish(event);
+        // (같은 트랜잭션에 outbox로 기록, 커밋된 것만 OutboxRelay가 전송)
+        outboxWriter.append(event);
+    }
+
+    // 대량 발행 (outbox에 JDBC batch로 기록)
+    public void publishAll(Collection<?> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+        outboxWriter.appendAll(events);
     }
 }
@@ -0,0 +1,146 @@
+package com.back.global.kafka;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+@Component
+public class KafkaAdminSupport {
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${custom.kafka.admin.timeoutSeconds:10}")
+    private long timeoutSeconds;
+
+    // 토픽별 모든 파티션의 현재 끝 offset (다음에 쓰일 위치)
+    public Map<TopicPartition, Long> endOffsets(Collection<String> topics) {
+        try (Admin admin = createAdmin()) {
+            Map<String, TopicDescription> descriptions = get(admin.describeTopics(topics).allTopicNames());
+
+            Map<TopicPartition, OffsetSpec> request = new HashMap<>();
+            descriptions.values().forEach(description ->
+                    description.partitions().forEach(partition ->
+                            request.put(new TopicPartition(description.name(), partition.partition()), OffsetSpec.latest())
+                    )
+            );
+
+            return get(admin.listOffsets(request).all())
+                    .entrySet()
+                    .stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().offset()));
+        }
+    }
+
+    // 없는 토픽만 생성하고 만든 토픽 반환 (이미 있는 토픽은 파티션 수를 포함해 건드리지 않음)
+    public List<String> createMissingTopics(Collection<String> topics, int partitions) {
+        try (Admin admin = createAdmin()) {
+            Set<String> existing = get(admin.listTopics().names());
+
+            List<NewTopic> missing = topics.stream()
+                    .filter(topic -> !existing.contains(topic))
+                    .map(topic -> new NewTopic(topic, Optional.of(partitions), Optional.empty()))
+                    .toList();
+
+            if (missing.isEmpty()) return List.of();
+
+            admin.createTopics(missing).values().forEach((topic, future) -> {
+                try {
+                    get(future);
+                } catch (IllegalStateException e) {
+                    // 다른 인스턴스가 먼저 만든 경우
+                    if (!(e.getCause() instanceof TopicExistsException)) throw e;
+                }
+            });
+
+            return missing.stream().map(NewTopic::name).toList();
+        }
+    }
+
+    // 컨슈머 그룹의 커밋 offset 변경 (그룹에 활성 컨슈머가 없을 때만 가능)
+    public void commitGroupOffsets(String groupId, Map<TopicPartition, Long> offsets) {
+        Map<TopicPartition, OffsetAndMetadata> request = offsets.entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> new OffsetAndMetadata(e.getValue())));
+
+        try (Admin admin = createAdmin()) {
+            get(admin.alterConsumerGroupOffsets(groupId, request).all());
+        }
+    }
+
+    // 컨슈머 그룹에 커밋된 offset이 하나라도 있는지
+    public boolean hasGroupOffsets(String groupId) {
+        try (Admin admin = createAdmin()) {
+            return get(admin.listConsumerGroupOffsets(groupId).partitionsToOffsetAndMetadata())
+                    .values()
+                    .stream()
+                    .anyMatch(Objects::nonNull);
+        }
+    }
+
+    // "topic:partition=offset,..." 형식 (HTTP 헤더로 전달)
+    public static String formatOffsets(Map<TopicPartition, Long> offsets) {
+        return offsets.entrySet()
+                .stream()
+                .map(e -> "%s:%d=%d".formatted(e.getKey().topic(), e.getKey().partition(), e.getValue()))
+                .collect(Collectors.joining(","));
+    }
+
+    public static Map<TopicPartition, Long> parseOffsets(String value) {
+        Map<TopicPartition, Long> offsets = new LinkedHashMap<>();
+        if (value == null || value.isBlank()) return offsets;
+
+        for (String entry : value.split(",")) {
+            int colon = entry.lastIndexOf(':');
+            int equals = entry.lastIndexOf('=');
+            if (colon <= 0 || equals < colon) throw new IllegalArgumentException("Invalid offset entry: " + entry);
+
+            offsets.put(
+                    new TopicPartition(entry.substring(0, colon).trim(), Integer.parseInt(entry.substring(colon + 1, equals).trim())),
+                    Long.parseLong(entry.substring(equals + 1).trim())
+            );
+        }
+
+        return offsets;
+    }
+
+    private Admin createAdmin() {
+        return Admin.create(Map.<String, Object>of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, (int) TimeUnit.SECONDS.toMillis(timeoutSeconds)
+        ));
+    }
+
+    private <T> T get(KafkaFuture<T> future) {
+        try {
+            return future.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Kafka admin", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Kafka admin request failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Kafka admin request timed out", e);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.back.global.kafka;
 
+import com.back.global.kafka.codec.EventDeserializer;
+import com.back.global.kafka.codec.EventSerializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
@@ -12,52 +17,147 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+@Slf4j
 @Configuration
 @EnableKafka
+@EnableConfigurationProperties({KafkaProducerProperties.class, KafkaConsumerProperties.class})
 public class KafkaConfig {
 
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    @Value("${spring.application.name:app}")
+    private String applicationName;
+
+    // 프로필마다 producer 하나, 토픽별로 골라서 사용 (KafkaEventPublisher)
+    @Bean
+    public KafkaProducerProfiles kafkaProducerProfiles(KafkaProducerProperties properties) {
+        Map<String, DefaultKafkaProducerFactory<String, Object>> factories = new LinkedHashMap<>();
+        properties.profiles().forEach((name, profile) -> factories.put(name, createProducerFactory(name, profile, properties)));
+        return new KafkaProducerProfiles(properties, factories);
+    }
+
+    @Bean
+    public ProducerFactory<String, Object> producerFactory(KafkaProducerProfiles kafkaProducerProfiles) {
+        return kafkaProducerProfiles.defaultFactory();
+    }
+
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    public KafkaTemplate<String, Object> kafkaTemplate(KafkaProducerProfiles kafkaProducerProfiles) {
+        return kafkaProducerProfiles.defaultTemplate();
+    }
+
+    private DefaultKafkaProducerFactory<String, Object> createProducerFactory(
+            String name,
+            KafkaProducerProperties.Profile profile,
+            KafkaProducerProperties properties
+    ) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, true);
-        return new DefaultKafkaProducerFactory<>(configProps);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, EventSerializer.class);
+        // 본문 형식 (소비자는 헤더를 보고 json / binary 모두 읽음)
+        configProps.put(EventSerializer.CODEC_CONFIG, properties.codec());
+        configProps.put(EventSerializer.TOPIC_CODECS_CONFIG, properties.topicCodecs());
+        configProps.put(ProducerConfig.CLIENT_ID_CONFIG, "%s-%s".formatted(applicationName, name));
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, profile.lingerMs());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, profile.batchSize());
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.compressionType());
+        configProps.put(ProducerConfig.ACKS_CONFIG, profile.acks());
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, profile.idempotence());
+
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(configProps);
+
+        // transactional.id는 인스턴스마다 달라야 서로 fencing하지 않음
+        if (profile.transactional()) {
+            factory.setTransactionIdPrefix("%s-%s-%s-".formatted(applicationName, name, UUID.randomUUID()));
+        }
+
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public ConsumerFactory<String, Object> consumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerConfigs());
     }
 
     @Bean
-    public ConsumerFactory<String, Object> consumerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            KafkaConsumerProperties properties
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        applyConcurrency(factory, properties);
+        return factory;
+    }
+
+    // poll 한 번에 받은 레코드를 List로 한꺼번에 전달 (회원 복제 동기화처럼 묶어서 반영할 수 있는 토픽용)
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+            KafkaConsumerProperties properties
+    ) {
+        Map<String, Object> configProps = consumerConfigs();
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.batch().maxPollRecords());
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
+        factory.setBatchListener(true);
+        applyConcurrency(factory, properties);
+        return factory;
+    }
+
+    // 레코드 key(엔티티 id)가 같으면 같은 파티션 → 같은 컨슈머 스레드이므로 동시성을 올려도 엔티티별 순서 유지
+    private void applyConcurrency(
+            ConcurrentKafkaListenerContainerFactory<String, Object> factory,
+            KafkaConsumerProperties properties
+    ) {
+        factory.setContainerCustomizer(container -> {
+            String[] topics = container.getContainerProperties().getTopics();
+            container.setConcurrency(topics == null ? properties.defaultConcurrency() : properties.concurrencyOf(topics));
+        });
+    }
+
+    // 기동 시 없는 토픽만 topicPartitions로 생성 (리스너 컨테이너 시작 전)
+    // 이미 있는 토픽의 파티션 수는 바꾸지 않음: 늘리면 key → 파티션 배치가 바뀌어 같은 key의 순서가 깨질 수 있으므로
+    // 소비를 비운(drain) 뒤 운영 절차로 변경 (README 0030)
+    @Bean
+    public SmartInitializingSingleton kafkaTopicsInitializer(
+            KafkaAdminSupport kafkaAdminSupport,
+            KafkaConsumerProperties properties
+    ) {
+        return () -> {
+            try {
+                List<String> created = kafkaAdminSupport.createMissingTopics(KafkaTopics.ALL, properties.topicPartitions());
+                if (!created.isEmpty()) log.info("Created Kafka topics {} with {} partitions", created, properties.topicPartitions());
+            } catch (RuntimeException e) {
+                // KafkaAdmin 기본 동작처럼 브로커에 닿지 않아도 기동은 계속
+                log.warn("Could not create missing Kafka topics: {}", e.toString());
+            }
+        };
+    }
+
+    private Map<String, Object> consumerConfigs() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         configProps.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
-        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, EventDeserializer.class);
+        // 코덱 헤더가 없는 이전 형식 레코드용 (EventDeserializer 안의 JsonDeserializer)
         configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
         configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, true);
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
-        return new DefaultKafkaConsumerFactory<>(configProps);
-    }
-
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
-        return factory;
+        // transactional 프로필로 보낸 레코드는 커밋된 것만 읽음
+        configProps.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        return configProps;
     }
 }
@@ -0,0 +1,43 @@
+package com.back.global.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+// 리스너 설정
+// - concurrency: 토픽 → 컨테이너 동시 컨슈머 수 (여러 토픽을 받는 리스너는 가장 큰 값), 없으면 defaultConcurrency
+//   파티션 수보다 크면 남는 컨슈머는 놀게 되므로 topicPartitions 이하로
+// - topicPartitions: 기동 시 없는 KafkaTopics 토픽을 이 파티션 수로 생성 (이미 있는 토픽은 바꾸지 않음)
+// - batch.maxPollRecords: batch 리스너가 poll 한 번에 받는 최대 레코드 수
+@ConfigurationProperties(prefix = "custom.kafka.consumer")
+public record KafkaConsumerProperties(
+        int defaultConcurrency,
+        Map<String, Integer> concurrency,
+        int topicPartitions,
+        Batch batch
+) {
+    public KafkaConsumerProperties {
+        if (defaultConcurrency <= 0) defaultConcurrency = 1;
+        if (concurrency == null) concurrency = Map.of();
+        if (topicPartitions <= 0) topicPartitions = 6;
+        if (batch == null) batch = new Batch(0);
+    }
+
+    public record Batch(
+            int maxPollRecords
+    ) {
+        public Batch {
+            if (maxPollRecords <= 0) maxPollRecords = 500;
+        }
+    }
+
+    public int concurrencyOf(String... topics) {
+        int max = 0;
+
+        for (String topic : topics) {
+            max = Math.max(max, concurrency.getOrDefault(topic, defaultConcurrency));
+        }
+
+        return max == 0 ? defaultConcurrency : max;
+    }
+}
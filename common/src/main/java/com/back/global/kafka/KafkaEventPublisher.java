@@ -12,27 +12,116 @@ import com.back.shared.post.event.PostCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaEventPublisher {
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaProducerProfiles kafkaProducerProfiles;
 
     public void publish(Object event) {
-        String topic = resolveTopicName(event);
+        String topic = topicOf(event);
 
         if (topic == null) {
             log.debug("No Kafka topic for event: {}", event.getClass().getSimpleName());
             return;
         }
 
-        kafkaTemplate.send(topic, event);
+        send(topic, event);
         log.info("Published event to Kafka topic [{}]: {}", topic, event.getClass().getSimpleName());
     }
 
-    private String resolveTopicName(Object event) {
+    public record OutgoingEvent(
+            String topic,
+            Object event
+    ) {}
+
+    // 전송 결과를 기다리지 않음, 실패는 로그로 남김 (토픽에 지정된 프로필로 전송)
+    public CompletableFuture<SendResult<String, Object>> send(String topic, Object event) {
+        KafkaTemplate<String, Object> template = kafkaProducerProfiles.templateFor(topic);
+
+        CompletableFuture<SendResult<String, Object>> future = template.isTransactional() && !template.inTransaction()
+                ? template.executeInTransaction(operations -> operations.send(topic, keyOf(event), event))
+                : template.send(topic, keyOf(event), event);
+
+        return logFailure(future, topic, event);
+    }
+
+    // 여러 이벤트를 한꺼번에 전송, 결과는 입력 순서대로
+    // 트랜잭션 프로필은 레코드마다가 아니라 프로필별 묶음 하나를 Kafka 트랜잭션 하나로
+    public List<CompletableFuture<SendResult<String, Object>>> sendAll(List<OutgoingEvent> events) {
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(Collections.nCopies(events.size(), null));
+        Map<KafkaTemplate<String, Object>, List<Integer>> transactional = new LinkedHashMap<>();
+
+        for (int i = 0; i < events.size(); i++) {
+            OutgoingEvent event = events.get(i);
+            KafkaTemplate<String, Object> template = kafkaProducerProfiles.templateFor(event.topic());
+
+            if (template.isTransactional()) {
+                transactional.computeIfAbsent(template, it -> new ArrayList<>()).add(i);
+            } else {
+                futures.set(i, logFailure(template.send(event.topic(), keyOf(event.event()), event.event()), event.topic(), event.event()));
+            }
+        }
+
+        transactional.forEach((template, indexes) -> {
+            try {
+                template.executeInTransaction(operations -> {
+                    indexes.forEach(i -> futures.set(i, operations.send(events.get(i).topic(), keyOf(events.get(i).event()), events.get(i).event())));
+                    return null;
+                });
+            } catch (Exception e) {
+                // 트랜잭션이 취소되면 묶음 전체 실패
+                indexes.forEach(i -> futures.set(i, CompletableFuture.failedFuture(e)));
+            }
+
+            indexes.forEach(i -> futures.set(i, logFailure(futures.get(i), events.get(i).topic(), events.get(i).event())));
+        });
+
+        return futures;
+    }
+
+    private CompletableFuture<SendResult<String, Object>> logFailure(
+            CompletableFuture<SendResult<String, Object>> future,
+            String topic,
+            Object event
+    ) {
+        return future.whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("Failed to publish event to Kafka topic [{}]: {}", topic, event.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    // 레코드 key: 같은 엔티티의 이벤트는 같은 파티션으로 가서 순서대로 소비됨 (key가 없는 이벤트는 null)
+    public String keyOf(Object event) {
+        int id = switch (event) {
+            case MemberJoinedEvent e -> e.member().id();
+            case MemberModifiedEvent e -> e.member().id();
+            case PostCreatedEvent e -> e.post().id();
+            case PostCommentCreatedEvent e -> e.postComment().postId();
+            case MarketOrderPaymentRequestedEvent e -> e.order().id();
+            case MarketOrderPaymentCompletedEvent e -> e.order().id();
+            case CashOrderPaymentSucceededEvent e -> e.order().id();
+            case CashOrderPaymentFailedEvent e -> e.order().id();
+            case PayoutCompletedEvent e -> e.payout().payeeId();
+            default -> 0;
+        };
+
+        return id == 0 ? null : String.valueOf(id);
+    }
+
+    // Kafka로 보내지 않는 로컬 전용 이벤트는 null
+    public String topicOf(Object event) {
         return switch (event) {
             case MemberJoinedEvent e -> KafkaTopics.MEMBER_JOINED;
             case MemberModifiedEvent e -> KafkaTopics.MEMBER_MODIFIED;
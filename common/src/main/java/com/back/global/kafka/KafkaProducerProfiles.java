@@ -0,0 +1,47 @@
+package com.back.global.kafka;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 프로필별 producer / KafkaTemplate (KafkaConfig에서 생성)
+// 전송 지표는 spring.kafka.template{profile=...} 타이머로 프로필별 확인
+public class KafkaProducerProfiles implements DisposableBean {
+    private final KafkaProducerProperties properties;
+    private final Map<String, DefaultKafkaProducerFactory<String, Object>> factories;
+    private final Map<String, KafkaTemplate<String, Object>> templates = new LinkedHashMap<>();
+
+    public KafkaProducerProfiles(
+            KafkaProducerProperties properties,
+            Map<String, DefaultKafkaProducerFactory<String, Object>> factories
+    ) {
+        this.properties = properties;
+        this.factories = factories;
+
+        factories.forEach((name, factory) -> {
+            KafkaTemplate<String, Object> template = new KafkaTemplate<>(factory);
+            template.setMicrometerTags(Map.of("profile", name));
+            templates.put(name, template);
+        });
+    }
+
+    public KafkaTemplate<String, Object> templateFor(String topic) {
+        return templates.get(properties.profileOf(topic));
+    }
+
+    public KafkaTemplate<String, Object> defaultTemplate() {
+        return templates.get(properties.defaultProfile());
+    }
+
+    public DefaultKafkaProducerFactory<String, Object> defaultFactory() {
+        return factories.get(properties.defaultProfile());
+    }
+
+    @Override
+    public void destroy() {
+        factories.values().forEach(DefaultKafkaProducerFactory::destroy);
+    }
+}
@@ -0,0 +1,87 @@
+package com.back.global.kafka;
+
+import com.back.global.kafka.codec.EventCodecs;
+import com.back.global.kafka.codec.JsonEventCodec;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 이름 붙인 producer 설정 묶음과 토픽별 사용 프로필
+// - profiles: 설정하지 않으면 latency / throughput / transactional 기본값 사용 (설정한 이름은 통째로 덮어씀)
+// - topics: 토픽 → 프로필 이름, 없는 토픽은 defaultProfile
+//   (yml 키에 점이 있으므로 "[member.joined]" 형태로 적음)
+// - codec / topicCodecs: 본문 형식 (json / binary), 토픽별 지정이 없으면 codec
+@ConfigurationProperties(prefix = "custom.kafka.producer")
+public record KafkaProducerProperties(
+        String defaultProfile,
+        Map<String, Profile> profiles,
+        Map<String, String> topics,
+        String codec,
+        Map<String, String> topicCodecs
+) {
+    public static final String LATENCY = "latency";
+    public static final String THROUGHPUT = "throughput";
+    public static final String TRANSACTIONAL = "transactional";
+
+    public KafkaProducerProperties {
+        if (defaultProfile == null || defaultProfile.isBlank()) defaultProfile = THROUGHPUT;
+
+        Map<String, Profile> merged = new LinkedHashMap<>(defaultProfiles());
+        if (profiles != null) merged.putAll(profiles);
+        profiles = merged;
+
+        if (topics == null) topics = Map.of();
+        if (codec == null || codec.isBlank()) codec = JsonEventCodec.NAME;
+        if (topicCodecs == null) topicCodecs = Map.of();
+
+        // 모르는 코덱 이름은 기동 시점에 실패
+        EventCodecs.of(codec);
+        topicCodecs.values().forEach(EventCodecs::of);
+
+        if (!profiles.containsKey(defaultProfile)) {
+            throw new IllegalArgumentException("Unknown default Kafka producer profile: " + defaultProfile);
+        }
+        for (Map.Entry<String, String> topic : topics.entrySet()) {
+            if (!profiles.containsKey(topic.getValue())) {
+                throw new IllegalArgumentException("Unknown Kafka producer profile for topic %s: %s".formatted(topic.getKey(), topic.getValue()));
+            }
+        }
+    }
+
+    // lingerMs/batchSize: 묶어서 보낼 대기 시간/크기, transactional이면 Kafka 트랜잭션으로 전송
+    public record Profile(
+            int lingerMs,
+            int batchSize,
+            String compressionType,
+            String acks,
+            boolean idempotence,
+            boolean transactional
+    ) {
+        public Profile {
+            if (batchSize <= 0) batchSize = 16384;
+            if (compressionType == null || compressionType.isBlank()) compressionType = "none";
+            if (acks == null || acks.isBlank()) acks = "all";
+            // 트랜잭션 producer는 멱등성이 필수
+            if (transactional) idempotence = true;
+            // 멱등성은 acks=all에서만 동작
+            if (idempotence) acks = "all";
+        }
+    }
+
+    public String profileOf(String topic) {
+        return topics.getOrDefault(topic, defaultProfile);
+    }
+
+    private static Map<String, Profile> defaultProfiles() {
+        return Map.of(
+                // 바로 보내고 리더 ack만 대기
+                LATENCY, new Profile(0, 16384, "none", "1", false, false),
+                // 조금 기다렸다가 크게 묶어서 압축
+                THROUGHPUT, new Profile(10, 131072, "lz4", "all", true, false),
+                // 멱등 + 트랜잭션 (묶음 단위로 모두 커밋되거나 모두 취소)
+                // DB 커밋과 Kafka 커밋은 outbox relay로 이어지므로 전체 전달은 at-least-once (exactly-once 아님)
+                TRANSACTIONAL, new Profile(5, 65536, "lz4", "all", true, true)
+        );
+    }
+}
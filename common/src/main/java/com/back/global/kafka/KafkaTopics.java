@@ -1,5 +1,7 @@
 package com.back.global.kafka;
 
+import java.util.List;
+
 public class KafkaTopics {
     // Member events
     public static final String MEMBER_JOINED = "member.joined";
@@ -19,4 +21,16 @@ public class KafkaTopics {
 
     // Payout events
     public static final String PAYOUT_COMPLETED = "payout.completed";
+
+    public static final List<String> ALL = List.of(
+            MEMBER_JOINED,
+            MEMBER_MODIFIED,
+            POST_CREATED,
+            POST_COMMENT_CREATED,
+            MARKET_ORDER_PAYMENT_REQUESTED,
+            MARKET_ORDER_PAYMENT_COMPLETED,
+            CASH_ORDER_PAYMENT_SUCCEEDED,
+            CASH_ORDER_PAYMENT_FAILED,
+            PAYOUT_COMPLETED
+    );
 }
@@ -0,0 +1,241 @@
+package com.back.global.kafka.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 레코드 구성요소를 선언 순서대로 이어 쓰는 바이너리 본문 (필드 이름 / 클래스 이름 없음)
+// - int/long: zigzag varint, boolean: 1바이트
+// - String: (길이 + 1) varint + UTF-8, null이면 0
+// - LocalDateTime: 초/나노 varint (UTC 기준 값 그대로), null이면 표시 바이트 0
+// - 중첩 레코드: 표시 바이트 + 구성요소
+// 구성요소가 바뀌면 EventTypes의 version을 올리고 이전 모양은 LEGACY 스키마로 등록 (그 모양으로 읽어서 변환)
+public class BinaryEventCodec implements EventCodec {
+    public static final String NAME = "binary";
+
+    private final Map<Class<?>, Layout> layouts = new ConcurrentHashMap<>();
+
+    // 지원하지 않는 필드 타입은 기동 시점에 실패
+    public BinaryEventCodec() {
+        EventTypes.ALL.forEach(type -> layoutOf(type.javaType()));
+        EventTypes.LEGACY.forEach(schema -> layoutOf(schema.schemaType()));
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        Writer out = new Writer();
+        writeRecord(out, layoutOf(event.getClass()), event);
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object decode(Class<?> schemaType, byte[] data) {
+        Reader in = new Reader(data);
+        Object event = readRecord(in, layoutOf(schemaType));
+
+        if (in.position != data.length) {
+            throw new IllegalArgumentException("Trailing bytes in %s payload".formatted(schemaType.getSimpleName()));
+        }
+
+        return event;
+    }
+
+    private void writeRecord(Writer out, Layout layout, Object record) {
+        try {
+            for (int i = 0; i < layout.types.length; i++) {
+                writeValue(out, layout.types[i], layout.accessors[i].invoke(record));
+            }
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Failed to encode " + layout.javaType.getSimpleName(), e);
+        }
+    }
+
+    private Object readRecord(Reader in, Layout layout) {
+        Object[] args = new Object[layout.types.length];
+
+        for (int i = 0; i < args.length; i++) {
+            args[i] = readValue(in, layout.types[i]);
+        }
+
+        try {
+            return layout.constructor.invokeWithArguments(args);
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Failed to decode " + layout.javaType.getSimpleName(), e);
+        }
+    }
+
+    private void writeValue(Writer out, Class<?> type, Object value) {
+        if (type == int.class) {
+            out.writeVarLong(zigzag((int) value));
+        } else if (type == long.class) {
+            out.writeVarLong(zigzag((long) value));
+        } else if (type == boolean.class) {
+            out.write((boolean) value ? 1 : 0);
+        } else if (type == String.class) {
+            if (value == null) {
+                out.writeVarLong(0);
+                return;
+            }
+            byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+            out.writeVarLong(bytes.length + 1L);
+            out.writeBytes(bytes);
+        } else if (type == LocalDateTime.class) {
+            if (value == null) {
+                out.write(0);
+                return;
+            }
+            LocalDateTime dateTime = (LocalDateTime) value;
+            out.write(1);
+            out.writeVarLong(zigzag(dateTime.toEpochSecond(ZoneOffset.UTC)));
+            out.writeVarLong(dateTime.getNano());
+        } else {
+            if (value == null) {
+                out.write(0);
+                return;
+            }
+            out.write(1);
+            writeRecord(out, layoutOf(type), value);
+        }
+    }
+
+    private Object readValue(Reader in, Class<?> type) {
+        if (type == int.class) return (int) unzigzag(in.readVarLong());
+        if (type == long.class) return unzigzag(in.readVarLong());
+        if (type == boolean.class) return in.read() != 0;
+
+        if (type == String.class) {
+            long length = in.readVarLong();
+            if (length == 0) return null;
+            return new String(in.readBytes((int) (length - 1)), StandardCharsets.UTF_8);
+        }
+
+        if (in.read() == 0) return null;
+
+        if (type == LocalDateTime.class) {
+            long epochSecond = unzigzag(in.readVarLong());
+            int nano = (int) in.readVarLong();
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+
+        return readRecord(in, layoutOf(type));
+    }
+
+    private Layout layoutOf(Class<?> javaType) {
+        Layout layout = layouts.get(javaType);
+        if (layout != null) return layout;
+
+        layout = new Layout(javaType);
+        layouts.put(javaType, layout);
+
+        // 중첩 레코드도 미리 검증
+        for (Class<?> type : layout.types) {
+            if (type.isRecord()) layoutOf(type);
+        }
+
+        return layout;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static class Layout {
+        private final Class<?> javaType;
+        private final Class<?>[] types;
+        private final MethodHandle[] accessors;
+        private final MethodHandle constructor;
+
+        Layout(Class<?> javaType) {
+            if (!javaType.isRecord()) {
+                throw new IllegalArgumentException("Binary event codec supports records only: " + javaType.getName());
+            }
+
+            this.javaType = javaType;
+
+            RecordComponent[] components = javaType.getRecordComponents();
+            this.types = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+
+            for (Class<?> type : types) {
+                boolean supported = type == int.class || type == long.class || type == boolean.class
+                        || type == String.class || type == LocalDateTime.class || type.isRecord();
+                if (!supported) {
+                    throw new IllegalArgumentException("Unsupported field type %s in %s".formatted(type.getName(), javaType.getName()));
+                }
+            }
+
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            try {
+                this.accessors = new MethodHandle[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    accessors[i] = lookup.unreflect(components[i].getAccessor());
+                }
+                this.constructor = lookup.findConstructor(javaType, MethodType.methodType(void.class, types));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Cannot access record " + javaType.getName(), e);
+            }
+        }
+    }
+
+    private static class Writer extends ByteArrayOutputStream {
+        Writer() {
+            super(128);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+    }
+
+    private static class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int read() {
+            if (position >= data.length) throw new IllegalArgumentException("Truncated event payload");
+            return data[position++] & 0xFF;
+        }
+
+        byte[] readBytes(int length) {
+            if (length < 0 || position + length > data.length) throw new IllegalArgumentException("Truncated event payload");
+            byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = read();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IllegalArgumentException("Malformed varint in event payload");
+        }
+    }
+}
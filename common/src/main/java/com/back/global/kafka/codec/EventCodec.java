@@ -0,0 +1,11 @@
+package com.back.global.kafka.codec;
+
+// Kafka 이벤트 본문 인코딩 방식 (레코드 헤더의 코덱 이름으로 선택)
+public interface EventCodec {
+    String name();
+
+    byte[] encode(Object event);
+
+    // schemaType: 현재 이벤트 타입 또는 이전 버전 스키마 레코드
+    Object decode(Class<?> schemaType, byte[] data);
+}
@@ -0,0 +1,17 @@
+package com.back.global.kafka.codec;
+
+import java.util.Map;
+
+// 사용 가능한 코덱 (이름 → 구현)
+public class EventCodecs {
+    private static final Map<String, EventCodec> CODECS = Map.of(
+            JsonEventCodec.NAME, new JsonEventCodec(),
+            BinaryEventCodec.NAME, new BinaryEventCodec()
+    );
+
+    public static EventCodec of(String name) {
+        EventCodec codec = CODECS.get(name);
+        if (codec == null) throw new IllegalArgumentException("Unknown event codec: " + name);
+        return codec;
+    }
+}
@@ -0,0 +1,84 @@
+package com.back.global.kafka.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+// 코덱 헤더가 있으면 그 코덱 + 숫자 타입 id/버전으로, 없으면(이전 생산자) 기존 JsonDeserializer로 읽음
+// 등록된 이전 버전(EventTypes.LEGACY)도 읽으므로 버전을 올린 소비자가 이전 생산자의 레코드를 받아도 처리됨
+public class EventDeserializer implements Deserializer<Object> {
+    private final JsonDeserializer<Object> legacy = new JsonDeserializer<>();
+    // (타입 id, 버전) → 이전 버전 스키마
+    private final BiFunction<Integer, Integer, EventTypes.LegacySchema> legacySchemas;
+
+    public EventDeserializer() {
+        this(EventTypes::legacyOf);
+    }
+
+    EventDeserializer(BiFunction<Integer, Integer, EventTypes.LegacySchema> legacySchemas) {
+        this.legacySchemas = legacySchemas;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        legacy.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return legacy.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        Header codecHeader = headers.lastHeader(EventSerializer.CODEC_HEADER);
+        if (codecHeader == null) return legacy.deserialize(topic, headers, data);
+
+        if (data == null) return null;
+
+        EventCodec codec = EventCodecs.of(new String(codecHeader.value(), StandardCharsets.UTF_8));
+
+        Header typeHeader = headers.lastHeader(EventSerializer.TYPE_HEADER);
+        if (typeHeader == null || typeHeader.value().length != 4) {
+            throw new SerializationException("Missing event type header on topic " + topic);
+        }
+
+        ByteBuffer typeValue = ByteBuffer.wrap(typeHeader.value());
+        int typeId = typeValue.getShort();
+        int version = typeValue.getShort();
+
+        EventTypes.EventType type = EventTypes.of(typeId);
+        if (type == null) throw new SerializationException("Unknown event type id %d on topic %s".formatted(typeId, topic));
+
+        // 현재 버전은 그대로, 이전 버전은 등록된 스키마로 읽어서 현재 타입으로 변환
+        if (type.version() == version) return decode(codec, type.javaType(), data, topic);
+
+        EventTypes.LegacySchema legacySchema = legacySchemas.apply(typeId, version);
+        if (legacySchema == null) {
+            throw new SerializationException("Unsupported schema version %d of %s (current %d)"
+                    .formatted(version, type.javaType().getSimpleName(), type.version()));
+        }
+
+        return legacySchema.upgrade().apply(decode(codec, legacySchema.schemaType(), data, topic));
+    }
+
+    private Object decode(EventCodec codec, Class<?> schemaType, byte[] data, String topic) {
+        try {
+            return codec.decode(schemaType, data);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to deserialize %s from topic %s".formatted(schemaType.getSimpleName(), topic), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        legacy.close();
+    }
+}
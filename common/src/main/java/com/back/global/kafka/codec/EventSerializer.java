@@ -0,0 +1,74 @@
+package com.back.global.kafka.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+// 이벤트를 설정된 코덱으로 인코딩하고 헤더에 코덱 이름 + 숫자 타입 id/버전을 기록
+// - json 코덱은 이전 소비자(JsonDeserializer)를 위해 클래스 이름 헤더도 함께 기록
+// - 전환 순서: 소비자 배포(두 형식 모두 읽음) → 생산자 codec을 binary로
+public class EventSerializer implements Serializer<Object> {
+    // producer 설정 키
+    public static final String CODEC_CONFIG = "custom.event.codec";
+    public static final String TOPIC_CODECS_CONFIG = "custom.event.topicCodecs";
+
+    public static final String CODEC_HEADER = "X-Event-Codec";
+    public static final String TYPE_HEADER = "X-Event-Type";
+
+    private EventCodec defaultCodec = EventCodecs.of(JsonEventCodec.NAME);
+    private final Map<String, EventCodec> topicCodecs = new HashMap<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object name = configs.get(CODEC_CONFIG);
+        if (name != null) defaultCodec = EventCodecs.of(name.toString());
+
+        if (configs.get(TOPIC_CODECS_CONFIG) instanceof Map<?, ?> codecs) {
+            codecs.forEach((topic, codec) -> topicCodecs.put(topic.toString(), EventCodecs.of(codec.toString())));
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        // 헤더를 쓸 수 없는 호출: 코덱/타입 헤더 없이 본문만 (읽는 쪽이 타입을 알고 있어야 함)
+        if (data == null) return null;
+
+        try {
+            return topicCodecs.getOrDefault(topic, defaultCodec).encode(data);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to serialize " + data.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) return null;
+
+        EventTypes.EventType type = EventTypes.of(data.getClass());
+        if (type == null) throw new SerializationException("Unregistered Kafka event type: " + data.getClass().getName());
+
+        EventCodec codec = topicCodecs.getOrDefault(topic, defaultCodec);
+
+        headers.remove(CODEC_HEADER);
+        headers.remove(TYPE_HEADER);
+        headers.add(CODEC_HEADER, codec.name().getBytes(StandardCharsets.UTF_8));
+        headers.add(TYPE_HEADER, ByteBuffer.allocate(4).putShort((short) type.id()).putShort((short) type.version()).array());
+
+        if (codec instanceof JsonEventCodec) {
+            headers.remove(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+            headers.add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, data.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        }
+
+        try {
+            return codec.encode(data);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to serialize " + data.getClass().getSimpleName(), e);
+        }
+    }
+}
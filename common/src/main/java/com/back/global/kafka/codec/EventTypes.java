@@ -0,0 +1,90 @@
+package com.back.global.kafka.codec;
+
+import com.back.shared.cash.event.CashOrderPaymentFailedEvent;
+import com.back.shared.cash.event.CashOrderPaymentSucceededEvent;
+import com.back.shared.market.event.MarketOrderPaymentCompletedEvent;
+import com.back.shared.market.event.MarketOrderPaymentRequestedEvent;
+import com.back.shared.member.event.MemberJoinedEvent;
+import com.back.shared.member.event.MemberModifiedEvent;
+import com.back.shared.payout.event.PayoutCompletedEvent;
+import com.back.shared.post.event.PostCommentCreatedEvent;
+import com.back.shared.post.event.PostCreatedEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Kafka로 주고받는 이벤트의 숫자 타입 id / 스키마 버전
+// - id는 한 번 정하면 바꾸거나 재사용하지 않음
+// - 레코드 구성요소를 바꿀 때
+//   1. 바꾸기 전 모양을 그대로 복사한 레코드(예: MemberJoinedEventV1)를 만들고 LEGACY에 (id, 이전 version, 변환 함수) 등록
+//   2. ALL의 version을 올림
+//   3. 소비자부터 배포 (이전 버전 레코드는 LEGACY 모양으로 읽어서 현재 타입으로 변환), 그다음 생산자 배포
+//   4. 이전 버전 생산자가 모두 사라지고 토픽 보관 기간이 지나면 LEGACY에서 제거
+public class EventTypes {
+    public record EventType(
+            int id,
+            int version,
+            Class<?> javaType
+    ) {}
+
+    // 이전 버전 스키마: schemaType으로 읽은 뒤 upgrade로 현재 타입으로 변환
+    public record LegacySchema(
+            int id,
+            int version,
+            Class<?> schemaType,
+            Function<Object, Object> upgrade
+    ) {}
+
+    public static final List<EventType> ALL = List.of(
+            new EventType(1, 1, MemberJoinedEvent.class),
+            new EventType(2, 1, MemberModifiedEvent.class),
+            new EventType(3, 1, PostCreatedEvent.class),
+            new EventType(4, 1, PostCommentCreatedEvent.class),
+            new EventType(5, 1, MarketOrderPaymentRequestedEvent.class),
+            new EventType(6, 1, MarketOrderPaymentCompletedEvent.class),
+            new EventType(7, 1, CashOrderPaymentSucceededEvent.class),
+            new EventType(8, 1, CashOrderPaymentFailedEvent.class),
+            new EventType(9, 1, PayoutCompletedEvent.class)
+    );
+
+    public static final List<LegacySchema> LEGACY = List.of();
+
+    private static final Map<Integer, EventType> BY_ID = new HashMap<>();
+    private static final Map<Long, LegacySchema> LEGACY_BY_ID_AND_VERSION = new HashMap<>();
+    private static final Map<Class<?>, EventType> BY_JAVA_TYPE = new HashMap<>();
+
+    static {
+        for (EventType type : ALL) {
+            if (BY_ID.put(type.id(), type) != null) throw new IllegalStateException("Duplicate event type id: " + type.id());
+            BY_JAVA_TYPE.put(type.javaType(), type);
+        }
+
+        for (LegacySchema schema : LEGACY) {
+            EventType current = BY_ID.get(schema.id());
+            if (current == null || schema.version() >= current.version()) {
+                throw new IllegalStateException("Invalid legacy schema: id=%d, version=%d".formatted(schema.id(), schema.version()));
+            }
+            LEGACY_BY_ID_AND_VERSION.put(key(schema.id(), schema.version()), schema);
+        }
+    }
+
+    // 등록되지 않은 타입은 null
+    public static EventType of(Class<?> javaType) {
+        return BY_JAVA_TYPE.get(javaType);
+    }
+
+    public static EventType of(int id) {
+        return BY_ID.get(id);
+    }
+
+    // 현재 버전이 아니면 등록된 이전 버전 스키마, 없으면 null
+    public static LegacySchema legacyOf(int id, int version) {
+        return LEGACY_BY_ID_AND_VERSION.get(key(id, version));
+    }
+
+    private static long key(int id, int version) {
+        return ((long) id << 32) | version;
+    }
+}
@@ -0,0 +1,29 @@
+package com.back.global.kafka.codec;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+// 기존과 같은 JSON 본문 (전환 기간에 이전 소비자도 읽을 수 있음)
+public class JsonEventCodec implements EventCodec {
+    public static final String NAME = "json";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Override
+    public Object decode(Class<?> schemaType, byte[] data) {
+        return objectMapper.readValue(data, schemaType);
+    }
+}
@@ -0,0 +1,44 @@
+package com.back.global.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+// 업무 트랜잭션과 같은 트랜잭션에서 기록하고 OutboxRelay가 Kafka로 전송
+// (읽기/쓰기는 OutboxWriter/OutboxRelay가 JDBC로 처리, 엔티티는 테이블 정의용)
+@Entity
+@Table(
+        name = "OUTBOX_EVENT",
+        indexes = @Index(name = "IDX_OUTBOX_EVENT_SHIP_DATE_ID", columnList = "ship_date, id")
+)
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private long id;
+    @Column(nullable = false)
+    private String topic;
+    @Column(nullable = false)
+    private String eventType;
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+    @Column(nullable = false)
+    private LocalDateTime createDate;
+    private LocalDateTime shipDate;
+    private int attempts;
+    // relay가 잡아서 전송 중인 행 (이 시각까지 다른 relay는 건너뜀)
+    private LocalDateTime leaseUntil;
+}
@@ -0,0 +1,387 @@
+package com.back.global.outbox;
+
+import com.back.global.kafka.KafkaEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 커밋된 OUTBOX_EVENT 행을 모아서 Kafka로 전송
+// - 짧은 트랜잭션에서 batchSize개를 FOR UPDATE SKIP LOCKED로 잡고 lease_until을 기록 (여러 인스턴스가 나눠 처리)
+// - 트랜잭션 밖에서 한꺼번에 send 후 ack를 모아서 기다림 (토픽별 producer 프로필의 linger/batch로 묶여서 나감)
+// - 두 번째 짧은 트랜잭션에서 ack 받은 행은 ship_date 기록, 실패한 행은 attempts만 올리고 lease 해제 (다음 주기에 재시도)
+// - 결과를 기록하지 못하고 죽으면 leaseMs 뒤 다른 인스턴스가 다시 잡음 (at-least-once)
+// - 같은 (토픽, key)는 앞 행이 ack 받은 뒤에 뒤 행을 보냄, 앞 행이 실패하면 뒤 행은 다음 주기로 (재시도로 순서가 뒤바뀌지 않음)
+// - maxAttempts에 도달한 행은 더 이상 잡지 않음 (error 로그 + outbox.dead, 재전송은 attempts를 0으로 되돌림)
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+    private static final String SELECT_SQL = """
+            select id, topic, event_type, payload, attempts, create_date
+            from OUTBOX_EVENT
+            where ship_date is null and attempts < ? and (lease_until is null or lease_until < ?)
+            order by id
+            limit ?
+            for update skip locked
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaEventPublisher kafkaEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final long sendTimeoutMs;
+    private final long leaseMs;
+    private final int maxAttempts;
+    private final long retentionHours;
+
+    private final Map<String, Class<?>> eventTypes = new ConcurrentHashMap<>();
+
+    private final Timer publishLatency;
+    private final Counter shippedCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            KafkaEventPublisher kafkaEventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${custom.outbox.relay.enabled:true}") boolean enabled,
+            @Value("${custom.outbox.relay.batchSize:500}") int batchSize,
+            @Value("${custom.outbox.relay.pollIntervalMs:100}") long pollIntervalMs,
+            @Value("${custom.outbox.relay.sendTimeoutMs:10000}") long sendTimeoutMs,
+            @Value("${custom.outbox.relay.leaseMs:60000}") long leaseMs,
+            @Value("${custom.outbox.relay.maxAttempts:10}") int maxAttempts,
+            @Value("${custom.outbox.relay.retentionHours:24}") long retentionHours,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.kafkaEventPublisher = kafkaEventPublisher;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.leaseMs = leaseMs;
+        this.maxAttempts = maxAttempts;
+        this.retentionHours = retentionHours;
+
+        // ack를 기다리는 중에 lease가 끝나면 다른 인스턴스가 같은 행을 잡아서 순서가 뒤바뀔 수 있음
+        if (leaseMs <= sendTimeoutMs) {
+            throw new IllegalArgumentException("custom.outbox.relay.leaseMs(%d) must be greater than sendTimeoutMs(%d)".formatted(leaseMs, sendTimeoutMs));
+        }
+
+        // 업무 트랜잭션에서 기록된 시각 → Kafka ack까지
+        this.publishLatency = Timer.builder("outbox.publish.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.shippedCounter = Counter.builder("outbox.shipped").register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.failed").register(meterRegistry);
+        // 재시도를 포기한 행 (사람이 확인 후 재전송해야 함)
+        this.deadCounter = Counter.builder("outbox.dead").register(meterRegistry);
+    }
+
+    private record Row(
+            long id,
+            String topic,
+            String eventType,
+            String payload,
+            int attempts,
+            LocalDateTime createDate
+    ) {}
+
+    @Override
+    public void start() {
+        running = true;
+
+        if (!enabled) return;
+
+        worker = new CustomizableThreadFactory("outbox-relay-").newThread(this::loop);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void loop() {
+        while (running) {
+            int relayed;
+
+            try {
+                relayed = relayOnce();
+            } catch (Exception e) {
+                log.warn("Outbox relay pass failed: {}", e.toString());
+                relayed = 0;
+            }
+
+            // 꽉 찬 묶음이었으면 밀린 행이 더 있을 수 있으므로 바로 다음 묶음
+            if (relayed < batchSize) sleep();
+        }
+    }
+
+    // 잡은 행 수 반환
+    int relayOnce() {
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(Duration.ofMillis(leaseMs)).truncatedTo(ChronoUnit.MILLIS);
+
+        List<Row> rows = claim(leaseUntil);
+
+        if (rows.isEmpty()) return 0;
+
+        Result result = ship(rows);
+
+        transactionTemplate.executeWithoutResult(status -> finish(rows, result, leaseUntil));
+
+        return rows.size();
+    }
+
+    // 1. 짧은 트랜잭션: 행을 잡고 lease 기록 (커밋하면 행 잠금은 풀리고 lease가 끝날 때까지 다른 인스턴스는 건너뜀)
+    private List<Row> claim(LocalDateTime leaseUntil) {
+        List<Row> rows = transactionTemplate.execute(status -> {
+            List<Row> claimed = jdbcTemplate.query(
+                    SELECT_SQL,
+                    (rs, rowNum) -> new Row(
+                            rs.getLong("id"),
+                            rs.getString("topic"),
+                            rs.getString("event_type"),
+                            rs.getString("payload"),
+                            rs.getInt("attempts"),
+                            rs.getTimestamp("create_date").toLocalDateTime()
+                    ),
+                    maxAttempts,
+                    LocalDateTime.now(),
+                    batchSize
+            );
+
+            if (!claimed.isEmpty()) {
+                namedParameterJdbcTemplate.update(
+                        "update OUTBOX_EVENT set lease_until = :leaseUntil where id in (:ids)",
+                        Map.of("leaseUntil", leaseUntil, "ids", claimed.stream().map(Row::id).toList())
+                );
+            }
+
+            return claimed;
+        });
+
+        return rows == null ? List.of() : rows;
+    }
+
+    // 보낼 행 + 순서를 지켜야 하는 (토픽, 레코드 key), key가 없는 이벤트는 null
+    private record Pending(
+            Row row,
+            Object event,
+            String orderingKey
+    ) {}
+
+    // ack 받은 행 / 실패한 행 / 앞 행이 실패해서 보내지 않은 행
+    private record Result(
+            List<Long> shipped,
+            List<Row> failed,
+            List<Long> heldBack
+    ) {}
+
+    // 2. 트랜잭션 밖에서 전송하고 ack를 기다림
+    private Result ship(List<Row> rows) {
+        List<Long> shipped = new ArrayList<>(rows.size());
+        List<Row> failed = new ArrayList<>();
+        List<Long> heldBack = new ArrayList<>();
+
+        // 같은 (토픽, key)의 n번째 행은 n번째 차례에 보냄 (대부분 key가 겹치지 않으므로 한 차례로 끝남)
+        List<List<Pending>> waves = new ArrayList<>();
+        Map<String, Integer> waveOfKey = new HashMap<>();
+
+        for (Row row : rows) {
+            Object event;
+
+            try {
+                event = objectMapper.readValue(row.payload(), eventTypeOf(row));
+            } catch (Exception e) {
+                failed.add(row);
+                continue;
+            }
+
+            String key = kafkaEventPublisher.keyOf(event);
+            String orderingKey = key == null ? null : row.topic() + ":" + key;
+            int wave = orderingKey == null ? 0 : waveOfKey.merge(orderingKey, 1, Integer::sum) - 1;
+
+            if (waves.size() <= wave) waves.add(new ArrayList<>());
+            waves.get(wave).add(new Pending(row, event, orderingKey));
+        }
+
+        // 앞 행이 실패한 key의 뒤 행은 보내지 않고 남겨둠 (attempts 그대로, 다음 주기에 앞 행부터 다시)
+        Set<String> blockedKeys = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+        for (List<Pending> wave : waves) {
+            List<Pending> sending = new ArrayList<>(wave.size());
+
+            for (Pending pending : wave) {
+                if (pending.orderingKey() != null && blockedKeys.contains(pending.orderingKey())) {
+                    heldBack.add(pending.row().id());
+                } else {
+                    sending.add(pending);
+                }
+            }
+
+            if (sending.isEmpty()) continue;
+
+            // 토픽별 프로필로 한꺼번에 보낸 뒤 ack를 모아서 대기
+            List<? extends CompletableFuture<?>> sent = kafkaEventPublisher.sendAll(
+                    sending.stream()
+                            .map(pending -> new KafkaEventPublisher.OutgoingEvent(pending.row().topic(), pending.event()))
+                            .toList()
+            );
+
+            for (int i = 0; i < sending.size(); i++) {
+                Pending pending = sending.get(i);
+
+                try {
+                    sent.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    shipped.add(pending.row().id());
+                    publishLatency.record(Duration.between(pending.row().createDate(), LocalDateTime.now()));
+                    continue;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    // 실패로 처리
+                }
+
+                failed.add(pending.row());
+                if (pending.orderingKey() != null) blockedKeys.add(pending.orderingKey());
+            }
+        }
+
+        if (!heldBack.isEmpty()) log.debug("Held back {} outbox events behind failed events with the same key", heldBack.size());
+
+        return new Result(shipped, failed, heldBack);
+    }
+
+    // 3. 짧은 트랜잭션: 결과 기록 + lease 해제
+    // 실패 / 보류 행은 아직 이 relay의 lease일 때만 (lease가 끝나서 다른 인스턴스가 잡은 행은 건드리지 않음)
+    private void finish(List<Row> rows, Result result, LocalDateTime leaseUntil) {
+        List<Long> shipped = result.shipped();
+        List<Row> failed = result.failed();
+
+        if (!shipped.isEmpty()) {
+            namedParameterJdbcTemplate.update(
+                    "update OUTBOX_EVENT set ship_date = :now, lease_until = null where id in (:ids)",
+                    Map.of("now", LocalDateTime.now(), "ids", shipped)
+            );
+            shippedCounter.increment(shipped.size());
+        }
+
+        if (!result.heldBack().isEmpty()) {
+            namedParameterJdbcTemplate.update(
+                    "update OUTBOX_EVENT set lease_until = null where id in (:ids) and lease_until = :leaseUntil",
+                    Map.of("ids", result.heldBack(), "leaseUntil", leaseUntil)
+            );
+        }
+
+        if (!failed.isEmpty()) {
+            namedParameterJdbcTemplate.update(
+                    "update OUTBOX_EVENT set attempts = attempts + 1, lease_until = null where id in (:ids) and lease_until = :leaseUntil",
+                    Map.of("ids", failed.stream().map(Row::id).toList(), "leaseUntil", leaseUntil)
+            );
+            failedCounter.increment(failed.size());
+            log.warn("Failed to relay {} of {} outbox events", failed.size(), rows.size());
+
+            List<Long> dead = failed.stream()
+                    .filter(row -> row.attempts() + 1 >= maxAttempts)
+                    .map(Row::id)
+                    .toList();
+
+            if (!dead.isEmpty()) {
+                deadCounter.increment(dead.size());
+                log.error("Giving up on {} outbox events after {} attempts, ids={}", dead.size(), maxAttempts, dead);
+            }
+        }
+    }
+
+    private Class<?> eventTypeOf(Row row) {
+        return eventTypes.computeIfAbsent(row.eventType(), name -> {
+            try {
+                return Class.forName(name);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Unknown outbox event type: " + name, e);
+            }
+        });
+    }
+
+    // 전송 완료된 행은 retentionHours 뒤 조금씩 삭제
+    @Scheduled(fixedDelayString = "${custom.outbox.relay.cleanupIntervalMs:60000}")
+    public void cleanup() {
+        if (!enabled) return;
+
+        int deleted = jdbcTemplate.update(
+                "delete from OUTBOX_EVENT where ship_date < ? limit ?",
+                LocalDateTime.now().minusHours(retentionHours),
+                batchSize * 10
+        );
+
+        if (deleted > 0) log.debug("Deleted {} shipped outbox events", deleted);
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        if (worker == null) return;
+
+        try {
+            worker.join(sendTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Kafka 리스너 컨테이너가 멈춘 뒤에 멈춤 (리스너가 남긴 이벤트까지 전송)
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE - 1;
+    }
+}
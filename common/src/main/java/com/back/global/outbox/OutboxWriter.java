@@ -0,0 +1,49 @@
+package com.back.global.outbox;
+
+import com.back.global.kafka.KafkaEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 현재 트랜잭션에 OUTBOX_EVENT 행 추가 (Kafka 토픽이 없는 로컬 전용 이벤트는 건너뜀)
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+    private static final String INSERT_SQL = """
+            insert into OUTBOX_EVENT (topic, event_type, payload, create_date, attempts)
+            values (?, ?, ?, ?, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaEventPublisher kafkaEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    public void append(Object event) {
+        String topic = kafkaEventPublisher.topicOf(event);
+        if (topic == null) return;
+
+        jdbcTemplate.update(INSERT_SQL, toRow(topic, event, LocalDateTime.now()));
+    }
+
+    public void appendAll(Collection<?> events) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(events.size());
+
+        for (Object event : events) {
+            String topic = kafkaEventPublisher.topicOf(event);
+            if (topic != null) rows.add(toRow(topic, event, now));
+        }
+
+        if (!rows.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private Object[] toRow(String topic, Object event, LocalDateTime now) {
+        return new Object[]{topic, event.getClass().getName(), objectMapper.writeValueAsString(event), now};
+    }
+}
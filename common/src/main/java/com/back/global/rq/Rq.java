@@ -1,5 +1,6 @@
 package com.back.global.rq;
 
+import com.back.global.security.InternalIdentityVerifier;
 import com.back.global.security.SecurityUser;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,7 +12,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.annotation.RequestScope;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Optional;
 
 @Component
@@ -20,10 +20,23 @@ import java.util.Optional;
 public class Rq {
     private final HttpServletRequest req;
     private final HttpServletResponse resp;
+    private final InternalIdentityVerifier internalIdentityVerifier;
+    private SecurityUser actor;
+    private boolean actorResolved;
 
     public SecurityUser getActor() {
+        // 요청 스코프이므로 한 요청에서 서명 검증은 한 번만
+        if (!actorResolved) {
+            actor = resolveActor();
+            actorResolved = true;
+        }
+
+        return actor;
+    }
+
+    private SecurityUser resolveActor() {
         // 1. SecurityContext에서 먼저 확인 (기존 방식)
-        SecurityUser actor = Optional.ofNullable(
+        SecurityUser securityUser = Optional.ofNullable(
                         SecurityContextHolder
                                 .getContext()
                                 .getAuthentication()
@@ -33,23 +46,12 @@ public class Rq {
                 .map(principal -> (SecurityUser) principal)
                 .orElse(null);
 
-        if (actor != null) {
-            return actor;
-        }
-
-        // 2. Gateway가 전달한 헤더에서 읽기
-        String userId = req.getHeader("X-User-Id");
-        if (userId == null || userId.isBlank()) {
-            return null;
+        if (securityUser != null) {
+            return securityUser;
         }
 
-        return new SecurityUser(
-                Integer.parseInt(userId),
-                req.getHeader("X-User-Name"),
-                "",
-                req.getHeader("X-User-Nickname"),
-                Collections.emptyList()
-        );
+        // 2. Gateway가 서명한 식별 헤더에서 읽기 (DB/원격 조회 없음)
+        return internalIdentityVerifier.verify(req.getHeader(InternalIdentityVerifier.HEADER_NAME));
     }
 
     public String getHeader(String name, String defaultValue) {
@@ -0,0 +1,102 @@
+package com.back.global.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Collections;
+
+// Gateway(IdentityTokenSigner)가 서명한 X-User-Identity 헤더 검증
+// 형식: v1.{id}.{exp(epoch sec)}.{b64url(username)}.{b64url(nickname)}.{b64url(HMAC-SHA256)}
+// - 키는 기동 시 1회 생성, Mac은 스레드별로 재사용
+// - 구분자 위치만 찾아서 파싱 (split/정규식 없음)
+@Component
+public class InternalIdentityVerifier {
+    public static final String HEADER_NAME = "X-User-Identity";
+    private static final String VERSION_PREFIX = "v1.";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int FIELD_COUNT = 6;
+
+    private final SecretKeySpec secretKey;
+    private final ThreadLocal<Mac> macs;
+
+    public InternalIdentityVerifier(@Value("${custom.identity.secretKey}") String identitySecretKey) {
+        this.secretKey = new SecretKeySpec(identitySecretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        newMac(); // 잘못된 키면 기동 시점에 실패
+    }
+
+    public SecurityUser verify(String identity) {
+        if (identity == null || !identity.startsWith(VERSION_PREFIX)) return null;
+
+        int[] dots = new int[FIELD_COUNT - 1];
+        int found = 0;
+
+        for (int i = 0; i < identity.length(); i++) {
+            if (identity.charAt(i) != '.') continue;
+            if (found == dots.length) return null;
+            dots[found++] = i;
+        }
+
+        if (found != dots.length) return null;
+
+        int signatureStart = dots[4] + 1;
+
+        try {
+            byte[] expected = sign(identity, dots[4]);
+            byte[] actual = Base64.getUrlDecoder().decode(identity.substring(signatureStart));
+
+            if (!MessageDigest.isEqual(expected, actual)) return null;
+
+            int id = Integer.parseInt(identity, dots[0] + 1, dots[1], 10);
+            long expiration = Long.parseLong(identity, dots[1] + 1, dots[2], 10);
+
+            if (expiration < System.currentTimeMillis() / 1000) return null;
+
+            return new SecurityUser(
+                    id,
+                    decode(identity, dots[2] + 1, dots[3]),
+                    "",
+                    decode(identity, dots[3] + 1, dots[4]),
+                    Collections.emptyList()
+            );
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String identity, int payloadEnd) {
+        Mac mac = macs.get();
+        mac.reset(); // 이전 검증이 중간에 실패했을 수 있음
+
+        for (int i = 0; i < payloadEnd; i++) {
+            char c = identity.charAt(i);
+            if (c > 0x7F) throw new IllegalArgumentException("ASCII가 아닌 식별 헤더");
+            mac.update((byte) c);
+        }
+
+        return mac.doFinal();
+    }
+
+    private static String decode(String identity, int start, int end) {
+        return new String(
+                Base64.getUrlDecoder().decode(identity.substring(start, end)),
+                StandardCharsets.UTF_8
+        );
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("내부 식별 헤더 검증 키를 초기화할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,23 +1,49 @@
 package com.back.shared.member.out;
 
 import com.back.global.auth.SystemAuthTokenProvider;
+import com.back.shared.member.dto.MemberDto;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
 @Service
 public class MemberApiClient {
+    private static final ParameterizedTypeReference<List<MemberDto>> MEMBER_LIST_TYPE = new ParameterizedTypeReference<>() {};
+
     private final RestClient restClient;
     private final SystemAuthTokenProvider systemAuthTokenProvider;
 
+    // /batch 한 번에 보내는 최대 id 수
+    private final int maxBatchSize;
+
     public MemberApiClient(
             @Value("${custom.services.member-url}") String memberServiceUrl,
+            @Value("${custom.services.member.batch.maxSize:500}") int maxBatchSize,
+            @Value("${custom.services.member.connectTimeoutMs:1000}") long connectTimeoutMs,
+            @Value("${custom.services.member.readTimeoutMs:3000}") long readTimeoutMs,
             SystemAuthTokenProvider systemAuthTokenProvider
     ) {
         this.systemAuthTokenProvider = systemAuthTokenProvider;
+
+        // member-service가 느려져도 호출자가 무한정 붙잡히지 않도록 제한 시간을 둠
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
         this.restClient = RestClient.builder()
                 .baseUrl(memberServiceUrl + "/api/v1/member/members")
+                .requestFactory(requestFactory)
                 .build();
+        this.maxBatchSize = maxBatchSize;
     }
 
     public String getRandomSecureTip() {
@@ -27,4 +53,25 @@ public class MemberApiClient {
                 .retrieve()
                 .body(String.class);
     }
+
+    // 여러 회원을 한 번에 조회 (maxBatchSize 단위로 나눠서 호출), 없는 id는 결과에서 빠짐
+    public List<MemberDto> getMembers(Collection<Integer> ids) {
+        List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<MemberDto> members = new ArrayList<>(distinctIds.size());
+
+        for (int from = 0; from < distinctIds.size(); from += maxBatchSize) {
+            List<Integer> chunk = distinctIds.subList(from, Math.min(from + maxBatchSize, distinctIds.size()));
+
+            List<MemberDto> result = restClient.post()
+                    .uri("/batch")
+                    .header("Authorization", systemAuthTokenProvider.getAuthorizationHeader())
+                    .body(Map.of("ids", chunk))
+                    .retrieve()
+                    .body(MEMBER_LIST_TYPE);
+
+            if (result != null) members.addAll(result);
+        }
+
+        return members;
+    }
 }
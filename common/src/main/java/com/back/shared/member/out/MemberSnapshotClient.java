@@ -0,0 +1,94 @@
+package com.back.shared.member.out;
+
+import com.back.global.auth.SystemAuthTokenProvider;
+import com.back.global.kafka.KafkaAdminSupport;
+import com.back.shared.member.dto.MemberDto;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Service
+public class MemberSnapshotClient {
+    // 스냅샷 조회 직전에 기록한 member.joined / member.modified 끝 offset
+    public static final String OFFSETS_HEADER = "X-Member-Snapshot-Offsets";
+
+    private final RestClient restClient;
+    private final SystemAuthTokenProvider systemAuthTokenProvider;
+    private final ObjectMapper objectMapper;
+
+    public MemberSnapshotClient(
+            @Value("${custom.services.member-url}") String memberServiceUrl,
+            @Value("${custom.services.member.connectTimeoutMs:1000}") long connectTimeoutMs,
+            @Value("${custom.services.member.snapshot.readTimeoutMs:30000}") long readTimeoutMs,
+            SystemAuthTokenProvider systemAuthTokenProvider,
+            ObjectMapper objectMapper
+    ) {
+        // 기동 중에 호출되므로 member-service가 응답하지 않으면 기동이 멈추지 않게 제한 시간을 둠
+        // readTimeoutMs는 스트림 전체가 아니라 다음 데이터를 기다리는 시간
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        this.restClient = RestClient.builder()
+                .baseUrl(memberServiceUrl + "/api/v1/member/members")
+                .requestFactory(requestFactory)
+                .build();
+        this.systemAuthTokenProvider = systemAuthTokenProvider;
+        this.objectMapper = objectMapper;
+    }
+
+    public record Snapshot(
+            long count,
+            Map<TopicPartition, Long> offsets
+    ) {}
+
+    // NDJSON 스냅샷을 한 줄씩 읽어 chunkSize 단위로 넘김 (전체를 메모리에 올리지 않음)
+    public Snapshot stream(int chunkSize, Consumer<List<MemberDto>> chunkConsumer) {
+        return restClient.get()
+                .uri("/snapshot")
+                .header("Authorization", systemAuthTokenProvider.getAuthorizationHeader())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange((request, response) -> {
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        throw new IllegalStateException("Member snapshot request failed: " + response.getStatusCode());
+                    }
+
+                    Map<TopicPartition, Long> offsets = KafkaAdminSupport.parseOffsets(response.getHeaders().getFirst(OFFSETS_HEADER));
+                    long count = 0;
+
+                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                        List<MemberDto> chunk = new ArrayList<>(chunkSize);
+                        String line;
+
+                        while ((line = reader.readLine()) != null) {
+                            if (line.isBlank()) continue;
+
+                            chunk.add(objectMapper.readValue(line, MemberDto.class));
+                            count++;
+
+                            if (chunk.size() >= chunkSize) {
+                                chunkConsumer.accept(chunk);
+                                chunk = new ArrayList<>(chunkSize);
+                            }
+                        }
+
+                        if (!chunk.isEmpty()) chunkConsumer.accept(chunk);
+                    }
+
+                    return new Snapshot(count, offsets);
+                });
+    }
+}
@@ -0,0 +1,116 @@
+package com.back.shared.member.replica;
+
+import com.back.global.kafka.KafkaAdminSupport;
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.out.MemberSnapshotClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 복제 테이블이 비어 있으면 Kafka 리스너가 뜨기 전에 member-service 스냅샷으로 채우고
+// 스냅샷 시점의 offset부터 이어서 소비하도록 컨슈머 그룹 offset을 맞춤
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplicaMemberBootstrapper implements SmartLifecycle {
+    private final ObjectProvider<ReplicaMemberTable> replicaMemberTable;
+    private final MemberSnapshotClient memberSnapshotClient;
+    private final KafkaAdminSupport kafkaAdminSupport;
+    private final ReplicaMemberSyncer replicaMemberSyncer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.replicaMember.bootstrap.enabled:true}")
+    private boolean enabled;
+
+    @Value("${custom.replicaMember.bootstrap.batchSize:1000}")
+    private int batchSize;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+
+        ReplicaMemberTable table = replicaMemberTable.getIfAvailable();
+        if (!enabled || table == null) return;
+
+        // 실패한 채로 뜨면 리스너가 latest부터 읽어서 이전 회원이 영영 빠지므로 기동 실패 (offset을 커밋하지 않았으므로 다음 기동 때 다시 적재)
+        try {
+            bootstrap(table);
+        } catch (Exception e) {
+            throw new IllegalStateException(
+                    "Replica member bootstrap failed for %s. Fix member-service access or set custom.replicaMember.bootstrap.enabled=false to start without it."
+                            .formatted(table.tableName()),
+                    e
+            );
+        }
+    }
+
+    private void bootstrap(ReplicaMemberTable table) {
+        // 스냅샷 offset 커밋이 적재의 마지막 단계이므로 행이 있어도 offset이 없으면 중간에 끊긴 적재 → 다시 적재
+        if (!isEmpty(table)) {
+            if (kafkaAdminSupport.hasGroupOffsets(table.groupId())) {
+                log.info("{} already has rows. Skipping snapshot bootstrap.", table.tableName());
+                return;
+            }
+
+            log.warn("{} has rows but group {} has no committed offsets. Resuming an interrupted snapshot bootstrap.", table.tableName(), table.groupId());
+        }
+
+        // batchSize 단위로 나눠 커밋 (스냅샷 전체를 한 트랜잭션에 담지 않음)
+        // 중간에 끊기면 다음 기동 때 새 스냅샷으로 다시 적재: 이미 들어간 회원은 modifyDate 비교로 갱신, 새 회원만 후속 처리
+        MemberSnapshotClient.Snapshot snapshot = memberSnapshotClient.stream(
+                batchSize,
+                chunk -> transactionTemplate.executeWithoutResult(status -> loadChunk(table, chunk))
+        );
+
+        log.info("Loaded {} members into {} from snapshot", snapshot.count(), table.tableName());
+
+        if (snapshot.offsets().isEmpty()) {
+            log.warn("Member snapshot has no Kafka offsets. {} will resume with auto.offset.reset.", table.groupId());
+            return;
+        }
+
+        // 스냅샷을 읽기 직전 offset부터 소비하므로 스냅샷과 겹치는 이벤트는 modifyDate 비교로 걸러짐
+        kafkaAdminSupport.commitGroupOffsets(table.groupId(), snapshot.offsets());
+        log.info("Committed {} offsets for group {}: {}", snapshot.offsets().size(), table.groupId(), snapshot.offsets());
+    }
+
+    private boolean isEmpty(ReplicaMemberTable table) {
+        return jdbcTemplate.queryForList("select id from %s limit 1".formatted(table.tableName()), Integer.class).isEmpty();
+    }
+
+    private void loadChunk(ReplicaMemberTable table, List<MemberDto> chunk) {
+        List<MemberDto> created = replicaMemberSyncer.apply(table, chunk);
+
+        // 후속 처리(장바구니/지갑 생성 등)는 회원마다 이벤트가 아니라 묶음 단위로 같은 트랜잭션에서
+        if (!created.isEmpty() && table.createdBatchHandler() != null) {
+            table.createdBatchHandler().accept(created);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Kafka 리스너 컨테이너보다 먼저 시작
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE - 1;
+    }
+}
@@ -0,0 +1,32 @@
+package com.back.shared.member.replica;
+
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.event.MemberJoinedEvent;
+import com.back.shared.member.event.MemberModifiedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// batch 리스너로 받은 member.joined / member.modified 레코드에서 회원 정보만 꺼냄
+@Slf4j
+public class ReplicaMemberEvents {
+    public static List<MemberDto> members(List<ConsumerRecord<String, Object>> records) {
+        List<MemberDto> members = new ArrayList<>(records.size());
+
+        for (ConsumerRecord<String, Object> record : records) {
+            switch (record.value()) {
+                case MemberJoinedEvent event -> members.add(event.member());
+                case MemberModifiedEvent event -> members.add(event.member());
+                // 역직렬화 실패(ErrorHandlingDeserializer) 등: 건너뜀
+                case null, default -> log.warn(
+                        "Skipping unreadable member event: topic={}, partition={}, offset={}",
+                        record.topic(), record.partition(), record.offset()
+                );
+            }
+        }
+
+        return members;
+    }
+}
@@ -0,0 +1,135 @@
+package com.back.shared.member.replica;
+
+import com.back.global.eventPublisher.EventPublisher;
+import com.back.shared.member.dto.MemberDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 회원 이벤트 묶음을 복제 테이블에 반영 (SELECT 1번 + multi-row upsert 1번)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplicaMemberSyncer {
+    // 한 INSERT 문에 넣을 최대 행 수 (placeholder 수 제한)
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    public void sync(ReplicaMemberTable table, Collection<MemberDto> members) {
+        if (members.isEmpty()) return;
+
+        // 컨슈머 그룹별 처리량: 반영 호출(= 트랜잭션) 수 / 받은 이벤트 수
+        meterRegistry.counter("replica.member.sync.batches", "group", table.groupId()).increment();
+        meterRegistry.counter("replica.member.sync.records", "group", table.groupId()).increment(members.size());
+
+        List<MemberDto> created = apply(table, members);
+
+        if (table.createdEventFactory() == null) return;
+
+        created.forEach(member -> eventPublisher.publish(table.createdEventFactory().apply(member)));
+    }
+
+    // 복제 테이블에 반영하고 새로 들어온 회원 반환 (스냅샷 적재도 같은 비교로 반영)
+    public List<MemberDto> apply(ReplicaMemberTable table, Collection<MemberDto> members) {
+        if (members.isEmpty()) return List.of();
+
+        Map<Integer, MemberDto> latest = latestById(members);
+        Map<Integer, LocalDateTime> existing = findModifyDates(table, latest.keySet());
+
+        // 이미 더 최신 상태가 반영된 회원은 제외
+        List<MemberDto> fresh = latest.values()
+                .stream()
+                .filter(member -> !isOlder(member.modifyDate(), existing.get(member.id())))
+                .toList();
+
+        for (int from = 0; from < fresh.size(); from += MAX_ROWS_PER_STATEMENT) {
+            upsert(table, fresh.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, fresh.size())));
+        }
+
+        log.debug("Synced {} of {} member events into {}", fresh.size(), members.size(), table.tableName());
+
+        return fresh.stream()
+                .filter(member -> !existing.containsKey(member.id()))
+                .toList();
+    }
+
+    // 같은 회원이 여러 번 오면 modifyDate가 가장 늦은 것만 (같으면 나중에 온 것)
+    private Map<Integer, MemberDto> latestById(Collection<MemberDto> members) {
+        Map<Integer, MemberDto> latest = new LinkedHashMap<>();
+
+        for (MemberDto member : members) {
+            latest.merge(member.id(), member, (prev, next) -> isOlder(next.modifyDate(), prev.modifyDate()) ? prev : next);
+        }
+
+        return latest;
+    }
+
+    private Map<Integer, LocalDateTime> findModifyDates(ReplicaMemberTable table, Collection<Integer> ids) {
+        Map<Integer, LocalDateTime> modifyDates = new HashMap<>();
+
+        namedParameterJdbcTemplate.query(
+                "select id, modify_date from %s where id in (:ids)".formatted(table.tableName()),
+                Map.of("ids", ids),
+                rs -> {
+                    Timestamp modifyDate = rs.getTimestamp("modify_date");
+                    modifyDates.put(rs.getInt("id"), modifyDate != null ? modifyDate.toLocalDateTime() : null);
+                }
+        );
+
+        return modifyDates;
+    }
+
+    // 이벤트의 modifyDate는 변경 flush 전 값일 수 있어서 같은 시각은 최신으로 취급
+    private static boolean isOlder(LocalDateTime modifyDate, LocalDateTime current) {
+        return modifyDate != null && current != null && modifyDate.isBefore(current);
+    }
+
+    private void upsert(ReplicaMemberTable table, List<MemberDto> members) {
+        StringBuilder sql = new StringBuilder()
+                .append("insert into ").append(table.tableName())
+                .append(" (id, create_date, modify_date, username, password, nickname, activity_score, api_key) values ");
+
+        List<Object> args = new ArrayList<>(members.size() * 6);
+
+        for (int i = 0; i < members.size(); i++) {
+            MemberDto member = members.get(i);
+
+            if (i > 0) sql.append(", ");
+            sql.append("(?, ?, ?, ?, '', ?, ?, null)");
+
+            args.add(member.id());
+            args.add(member.createDate());
+            args.add(member.modifyDate());
+            args.add(member.username());
+            args.add(member.nickname());
+            args.add(member.activityScore());
+        }
+
+        // 동시에 들어온 더 최신 행은 덮어쓰지 않도록 한 번 더 비교 (modify_date는 마지막에 갱신)
+        sql.append("""
+                 on duplicate key update
+                    username = case when values(modify_date) >= modify_date then values(username) else username end,
+                    nickname = case when values(modify_date) >= modify_date then values(nickname) else nickname end,
+                    activity_score = case when values(modify_date) >= modify_date then values(activity_score) else activity_score end,
+                    modify_date = case when values(modify_date) >= modify_date then values(modify_date) else modify_date end
+                """);
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -0,0 +1,17 @@
+package com.back.shared.member.replica;
+
+import com.back.shared.member.dto.MemberDto;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// 서비스별 회원 복제 테이블 정보 (빈으로 등록하면 기동 시 스냅샷으로 채움)
+public record ReplicaMemberTable(
+        String tableName,
+        String groupId,
+        // 새 회원이 들어왔을 때 발행할 *MemberCreatedEvent (없으면 null)
+        Function<MemberDto, Object> createdEventFactory,
+        // 스냅샷 적재로 새로 들어온 회원 묶음의 후속 처리 (적재와 같은 트랜잭션에서 묶음 단위로, 없으면 null)
+        Consumer<List<MemberDto>> createdBatchHandler
+) {}
@@ -0,0 +1,69 @@
+package com.back.standard.ut;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 시크릿별 SecretKey/JwtParser를 한 번만 만들어 재사용하는 JWT 인코더/디코더
+// SecretKey, JwtParser 모두 불변 객체라 여러 스레드에서 공유 가능
+public final class JwtCodec {
+    private static final ConcurrentHashMap<String, JwtCodec> CODECS = new ConcurrentHashMap<>();
+
+    private final SecretKey secretKey;
+    private final JwtParser parser;
+
+    private JwtCodec(String secret) {
+        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+    }
+
+    public static JwtCodec of(String secret) {
+        return CODECS.computeIfAbsent(secret, JwtCodec::new);
+    }
+
+    public String encode(int expireSeconds, Map<String, ?> body) {
+        Date issuedAt = new Date();
+        Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
+
+        return Jwts.builder()
+                .claims(body)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    // 서명/만료 검증에 실패하면 empty
+    public Optional<Claims> decode(String jwtStr) {
+        if (jwtStr == null || jwtStr.isBlank()) return Optional.empty();
+
+        try {
+            return Optional.of(parser.parseSignedClaims(jwtStr).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public boolean isValid(String jwtStr) {
+        return decode(jwtStr).isPresent();
+    }
+
+    // 클레임이 없거나 타입이 다르면 null
+    public static <T> T claim(Claims claims, String name, Class<T> type) {
+        try {
+            return claims.get(name, type);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
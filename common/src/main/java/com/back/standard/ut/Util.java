@@ -1,14 +1,7 @@
 package com.back.standard.ut;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ClaimsBuilder;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 
-import javax.crypto.SecretKey;
-import java.security.Key;
-import java.util.Date;
 import java.util.Map;
 
 public class Util {
@@ -24,56 +17,18 @@ public class Util {
         }
     }
 
+    // 시크릿별 키/파서는 JwtCodec에서 재사용
     public static class jwt {
         public static String toString(String secret, int expireSeconds, Map<String, Object> body) {
-            ClaimsBuilder claimsBuilder = Jwts.claims();
-
-            for (Map.Entry<String, Object> entry : body.entrySet()) {
-                claimsBuilder.add(entry.getKey(), entry.getValue());
-            }
-
-            Claims claims = claimsBuilder.build();
-
-            Date issuedAt = new Date();
-            Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
-
-            Key secretKey = Keys.hmacShaKeyFor(secret.getBytes());
-
-            return Jwts.builder()
-                    .claims(claims)
-                    .issuedAt(issuedAt)
-                    .expiration(expiration)
-                    .signWith(secretKey)
-                    .compact();
+            return JwtCodec.of(secret).encode(expireSeconds, body);
         }
 
         public static boolean isValid(String secret, String jwtStr) {
-            SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes());
-
-            try {
-                Jwts.parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parse(jwtStr);
-            } catch (Exception e) {
-                return false;
-            }
-
-            return true;
+            return JwtCodec.of(secret).isValid(jwtStr);
         }
 
         public static Map<String, Object> payload(String secret, String jwtStr) {
-            SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes());
-
-            try {
-                return (Map<String, Object>) Jwts.parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parse(jwtStr)
-                        .getPayload();
-            } catch (Exception e) {
-                return null;
-            }
+            return JwtCodec.of(secret).decode(jwtStr).orElse(null);
         }
     }
 
@@ -0,0 +1,109 @@
+package com.back.global.kafka.codec;
+
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.event.MemberJoinedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BinaryEventCodecTest {
+    private final BinaryEventCodec codec = new BinaryEventCodec();
+
+    static List<Class<?>> eventTypes() {
+        return EventTypes.ALL.stream().<Class<?>>map(EventTypes.EventType::javaType).toList();
+    }
+
+    @ParameterizedTest
+    @MethodSource("eventTypes")
+    @DisplayName("등록된 모든 이벤트가 값 그대로 왕복")
+    void roundTripFilled(Class<?> eventType) {
+        Object event = EventSamples.filled(eventType);
+
+        assertThat(codec.decode(eventType, codec.encode(event))).isEqualTo(event);
+    }
+
+    @ParameterizedTest
+    @MethodSource("eventTypes")
+    @DisplayName("null 문자열 / null LocalDateTime / 경계값도 왕복")
+    void roundTripNulls(Class<?> eventType) {
+        Object event = EventSamples.withNulls(eventType);
+
+        assertThat(codec.decode(eventType, codec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("빈 문자열과 null 문자열을 구분")
+    void emptyStringIsNotNull() {
+        MemberJoinedEvent event = new MemberJoinedEvent(new MemberDto(1, null, null, "", null, 0));
+
+        MemberJoinedEvent decoded = (MemberJoinedEvent) codec.decode(MemberJoinedEvent.class, codec.encode(event));
+
+        assertThat(decoded.member().username()).isEmpty();
+        assertThat(decoded.member().nickname()).isNull();
+    }
+
+    @Test
+    @DisplayName("JSON보다 작게 인코딩")
+    void smallerThanJson() {
+        MemberJoinedEvent event = sample();
+
+        assertThat(codec.encode(event).length).isLessThan(new JsonEventCodec().encode(event).length / 2);
+    }
+
+    @Test
+    @DisplayName("잘린 본문은 모든 길이에서 거절")
+    void rejectsTruncated() {
+        byte[] encoded = codec.encode(sample());
+
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+
+            assertThatThrownBy(() -> codec.decode(MemberJoinedEvent.class, truncated))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("뒤에 남는 바이트가 있으면 거절")
+    void rejectsTrailingBytes() {
+        byte[] encoded = codec.encode(sample());
+        byte[] trailing = Arrays.copyOf(encoded, encoded.length + 1);
+
+        assertThatThrownBy(() -> codec.decode(MemberJoinedEvent.class, trailing))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Trailing bytes");
+    }
+
+    @Test
+    @DisplayName("끝나지 않는 varint는 거절")
+    void rejectsMalformedVarint() {
+        byte[] malformed = new byte[16];
+        Arrays.fill(malformed, (byte) 0xFF);
+
+        assertThatThrownBy(() -> codec.decode(MemberJoinedEvent.class, malformed))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    public record Unsupported(double value) {}
+
+    @Test
+    @DisplayName("지원하지 않는 필드 타입은 인코딩하지 않음")
+    void rejectsUnsupportedFieldType() {
+        assertThatThrownBy(() -> codec.encode(new Unsupported(1.5)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported field type");
+    }
+
+    private static MemberJoinedEvent sample() {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 30, 15, 500_000_000);
+        return new MemberJoinedEvent(new MemberDto(12345, now, now, "user12345", "회원12345", 42));
+    }
+}
@@ -0,0 +1,181 @@
+package com.back.global.kafka.codec;
+
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.event.MemberJoinedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EventDeserializerTest {
+    private static final String TOPIC = "member.joined";
+    private static final int MEMBER_JOINED_ID = EventTypes.of(MemberJoinedEvent.class).id();
+
+    // MemberJoinedEvent의 이전 버전(0) 모양: 닉네임 / 날짜가 없던 때
+    public record MemberDtoV0(int id, String username, int activityScore) {}
+
+    public record MemberJoinedEventV0(MemberDtoV0 member) {}
+
+    private static final EventTypes.LegacySchema MEMBER_JOINED_V0 = new EventTypes.LegacySchema(
+            MEMBER_JOINED_ID,
+            0,
+            MemberJoinedEventV0.class,
+            old -> {
+                MemberDtoV0 member = ((MemberJoinedEventV0) old).member();
+                return new MemberJoinedEvent(new MemberDto(member.id(), null, null, member.username(), member.username(), member.activityScore()));
+            }
+    );
+
+    private final EventSerializer serializer = new EventSerializer();
+    private final EventDeserializer deserializer = new EventDeserializer(
+            (id, version) -> id == MEMBER_JOINED_ID && version == 0 ? MEMBER_JOINED_V0 : null
+    );
+
+    EventDeserializerTest() {
+        Map<String, Object> configs = new HashMap<>();
+        // KafkaConfig의 consumer 설정과 같게 (코덱 헤더 없는 이전 형식용)
+        configs.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        configs.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, true);
+        // 헤더 없이 보낸 레코드는 토픽의 타입을 알고 있어야 읽을 수 있음
+        configs.put(JsonDeserializer.VALUE_DEFAULT_TYPE, MemberJoinedEvent.class.getName());
+        deserializer.configure(configs, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deserializer.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {JsonEventCodec.NAME, BinaryEventCodec.NAME})
+    @DisplayName("코덱 헤더 + 타입 헤더로 기록한 레코드를 같은 이벤트로 읽음")
+    void roundTrip(String codec) {
+        configureCodec(codec);
+        Headers headers = new RecordHeaders();
+
+        byte[] data = serializer.serialize(TOPIC, headers, sample());
+
+        assertThat(new String(headers.lastHeader(EventSerializer.CODEC_HEADER).value(), StandardCharsets.UTF_8)).isEqualTo(codec);
+        assertThat(ByteBuffer.wrap(headers.lastHeader(EventSerializer.TYPE_HEADER).value()).getShort()).isEqualTo((short) MEMBER_JOINED_ID);
+        assertThat(deserializer.deserialize(TOPIC, headers, data)).isEqualTo(sample());
+    }
+
+    @Test
+    @DisplayName("binary 코덱은 클래스 이름 헤더를 쓰지 않음, json은 이전 소비자를 위해 기록")
+    void classNameHeader() {
+        configureCodec(BinaryEventCodec.NAME);
+        Headers binaryHeaders = new RecordHeaders();
+        serializer.serialize(TOPIC, binaryHeaders, sample());
+
+        configureCodec(JsonEventCodec.NAME);
+        Headers jsonHeaders = new RecordHeaders();
+        serializer.serialize(TOPIC, jsonHeaders, sample());
+
+        assertThat(binaryHeaders.lastHeader("__TypeId__")).isNull();
+        assertThat(jsonHeaders.lastHeader("__TypeId__")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("코덱 헤더가 없는 이전 생산자의 레코드는 JsonDeserializer로 읽음")
+    void legacyRecordWithoutCodecHeader() {
+        configureCodec(JsonEventCodec.NAME);
+        Headers headers = new RecordHeaders();
+        byte[] data = serializer.serialize(TOPIC, headers, sample());
+
+        // 이전 생산자는 __TypeId__ 헤더만 기록
+        headers.remove(EventSerializer.CODEC_HEADER);
+        headers.remove(EventSerializer.TYPE_HEADER);
+
+        assertThat(deserializer.deserialize(TOPIC, headers, data)).isEqualTo(sample());
+    }
+
+    @Test
+    @DisplayName("헤더 없이 serialize(topic, data)로 만든 본문은 토픽 기본 타입으로 읽음")
+    void headerlessSerialize() {
+        configureCodec(JsonEventCodec.NAME);
+
+        byte[] data = serializer.serialize(TOPIC, sample());
+
+        assertThat(deserializer.deserialize(TOPIC, new RecordHeaders(), data)).isEqualTo(sample());
+        assertThat(deserializer.deserialize(TOPIC, data)).isEqualTo(sample());
+        assertThat(serializer.serialize(TOPIC, null)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {JsonEventCodec.NAME, BinaryEventCodec.NAME})
+    @DisplayName("등록된 이전 버전 스키마는 그 모양으로 읽어서 현재 타입으로 변환")
+    void legacySchemaUpgrade(String codec) {
+        MemberJoinedEventV0 old = new MemberJoinedEventV0(new MemberDtoV0(7, "old-user", 3));
+
+        Headers headers = headers(codec, MEMBER_JOINED_ID, 0);
+        byte[] data = EventCodecs.of(codec).encode(old);
+
+        assertThat(deserializer.deserialize(TOPIC, headers, data))
+                .isEqualTo(new MemberJoinedEvent(new MemberDto(7, null, null, "old-user", "old-user", 3)));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 버전 / 타입 id는 SerializationException")
+    void unknownVersionOrType() {
+        byte[] data = EventCodecs.of(BinaryEventCodec.NAME).encode(sample());
+
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, headers(BinaryEventCodec.NAME, MEMBER_JOINED_ID, 99), data))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Unsupported schema version 99");
+
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, headers(BinaryEventCodec.NAME, 999, 1), data))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Unknown event type id 999");
+    }
+
+    @Test
+    @DisplayName("잘리거나 뒤에 바이트가 남은 binary 본문은 SerializationException")
+    void truncatedOrTrailing() {
+        configureCodec(BinaryEventCodec.NAME);
+        Headers headers = new RecordHeaders();
+        byte[] data = serializer.serialize(TOPIC, headers, sample());
+
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, headers, Arrays.copyOf(data, data.length - 1)))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, headers, Arrays.copyOf(data, data.length + 3)))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 이벤트 타입은 보내지 않음")
+    void unregisteredEventType() {
+        assertThatThrownBy(() -> serializer.serialize(TOPIC, new RecordHeaders(), new MemberDtoV0(1, "a", 0)))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private void configureCodec(String codec) {
+        serializer.configure(Map.of(EventSerializer.CODEC_CONFIG, codec), false);
+    }
+
+    private static Headers headers(String codec, int typeId, int version) {
+        Headers headers = new RecordHeaders();
+        headers.add(EventSerializer.CODEC_HEADER, codec.getBytes(StandardCharsets.UTF_8));
+        headers.add(EventSerializer.TYPE_HEADER, ByteBuffer.allocate(4).putShort((short) typeId).putShort((short) version).array());
+        return headers;
+    }
+
+    private static MemberJoinedEvent sample() {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 30, 15);
+        return new MemberJoinedEvent(new MemberDto(12345, now, now, "user12345", "회원12345", 42));
+    }
+}
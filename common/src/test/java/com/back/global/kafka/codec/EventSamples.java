@@ -0,0 +1,55 @@
+package com.back.global.kafka.codec;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+// 레코드 구성요소 타입만 보고 샘플 이벤트를 만듦 (EventTypes.ALL 전체를 같은 방식으로 검사하기 위함)
+class EventSamples {
+    private EventSamples() {}
+
+    // 모든 값을 채움 (음수 / 큰 수 / 한글 / 나노초 포함)
+    static Object filled(Class<?> recordType) {
+        return build(recordType, false, new int[]{1});
+    }
+
+    // String / LocalDateTime은 null, 숫자는 0과 경계값
+    static Object withNulls(Class<?> recordType) {
+        return build(recordType, true, new int[]{1});
+    }
+
+    private static Object build(Class<?> recordType, boolean nulls, int[] seq) {
+        RecordComponent[] components = recordType.getRecordComponents();
+        Class<?>[] types = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+        Object[] args = new Object[types.length];
+
+        for (int i = 0; i < types.length; i++) {
+            int n = seq[0]++;
+            Class<?> type = types[i];
+
+            if (type == int.class) {
+                args[i] = nulls ? (n % 2 == 0 ? 0 : Integer.MIN_VALUE) : (n % 2 == 0 ? n * 1_000 : -n);
+            } else if (type == long.class) {
+                args[i] = nulls ? (n % 2 == 0 ? 0L : Long.MAX_VALUE) : (n % 2 == 0 ? n * 10_000_000_000L : -n);
+            } else if (type == boolean.class) {
+                args[i] = n % 2 == 0;
+            } else if (type == String.class) {
+                args[i] = nulls ? null : "값-" + n + " ✓ " + "x".repeat(n * 20);
+            } else if (type == LocalDateTime.class) {
+                args[i] = nulls ? null : LocalDateTime.of(2025, 1 + n % 12, 1 + n % 28, n % 24, n % 60, n % 60, 123_456_789);
+            } else if (type.isRecord()) {
+                args[i] = build(type, nulls, seq);
+            } else {
+                throw new IllegalArgumentException("No sample for " + type.getName());
+            }
+        }
+
+        try {
+            Constructor<?> constructor = recordType.getDeclaredConstructor(types);
+            return constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.back.global.outbox;
+
+import com.back.global.kafka.KafkaEventPublisher;
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.event.MemberModifiedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxRelayTest {
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private FakePublisher publisher;
+    private OutboxWriter outboxWriter;
+    private OutboxRelay relay;
+
+    // 보낸 순서를 기록하고 failing에 걸린 이벤트는 실패로 응답
+    private class FakePublisher extends KafkaEventPublisher {
+        private final List<String> sent = new ArrayList<>();
+        private final List<String> acked = new ArrayList<>();
+        private Predicate<String> failing = label -> false;
+
+        FakePublisher() {
+            super(null);
+        }
+
+        @Override
+        public List<CompletableFuture<SendResult<String, Object>>> sendAll(List<OutgoingEvent> events) {
+            // ack를 기다리는 동안 DB 트랜잭션이 없어야 하고, 잡은 행의 lease는 이미 커밋되어 있어야 함
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+            assertThat(jdbcTemplate.queryForObject(
+                    "select count(*) from OUTBOX_EVENT where ship_date is null and lease_until is not null",
+                    Integer.class
+            )).isPositive();
+
+            List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>();
+
+            for (OutgoingEvent event : events) {
+                String label = label((MemberModifiedEvent) event.event());
+                sent.add(label);
+
+                if (failing.test(label)) {
+                    futures.add(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+                } else {
+                    acked.add(label);
+                    futures.add(CompletableFuture.completedFuture(null));
+                }
+            }
+
+            return futures;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:outbox-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"
+        );
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jdbcTemplate.execute("""
+                create table OUTBOX_EVENT (
+                    id bigint auto_increment primary key,
+                    topic varchar(255) not null,
+                    event_type varchar(255) not null,
+                    payload clob not null,
+                    create_date timestamp(6) not null,
+                    ship_date timestamp(6),
+                    attempts int not null,
+                    lease_until timestamp(6)
+                )
+                """);
+
+        publisher = new FakePublisher();
+        outboxWriter = new OutboxWriter(jdbcTemplate, publisher, objectMapper);
+        relay = relay(60_000);
+    }
+
+    private OutboxRelay relay(long leaseMs) {
+        return new OutboxRelay(
+                jdbcTemplate,
+                namedParameterJdbcTemplate,
+                transactionTemplate,
+                publisher,
+                objectMapper,
+                true,
+                500,
+                100,
+                1_000,
+                leaseMs,
+                MAX_ATTEMPTS,
+                24,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    private static MemberModifiedEvent modified(int memberId, String version) {
+        return new MemberModifiedEvent(new MemberDto(memberId, null, null, "user" + memberId, version, 0));
+    }
+
+    private static String label(MemberModifiedEvent event) {
+        return event.member().id() + ":" + event.member().nickname();
+    }
+
+    private void write(MemberModifiedEvent... events) {
+        transactionTemplate.executeWithoutResult(status -> outboxWriter.appendAll(List.of(events)));
+    }
+
+    private List<String> acked(int memberId) {
+        return publisher.acked.stream().filter(label -> label.startsWith(memberId + ":")).toList();
+    }
+
+    @Test
+    @DisplayName("같은 key의 앞 행이 실패하면 뒤 행은 보내지 않고, 재시도 때 앞 행부터 순서대로 전송")
+    void perKeyOrderingAcrossFailedSendAndRetry() {
+        write(modified(1, "v1"), modified(2, "v1"), modified(1, "v2"), modified(1, "v3"), modified(2, "v2"));
+
+        Set<String> failOnce = new HashSet<>(Set.of("1:v1"));
+        publisher.failing = failOnce::remove;
+
+        assertThat(relay.relayOnce()).isEqualTo(5);
+
+        // 1번 회원은 v1이 실패해서 v2 / v3를 보내지 않음, 2번 회원은 그대로 진행
+        assertThat(publisher.sent).doesNotContain("1:v2", "1:v3");
+        assertThat(acked(1)).isEmpty();
+        assertThat(acked(2)).containsExactly("2:v1", "2:v2");
+
+        // 실패 행만 attempts 증가, 모든 lease 해제
+        assertThat(jdbcTemplate.queryForList("select attempts from OUTBOX_EVENT where ship_date is null order by id", Integer.class))
+                .containsExactly(1, 0, 0);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from OUTBOX_EVENT where lease_until is not null", Integer.class))
+                .isZero();
+
+        assertThat(relay.relayOnce()).isEqualTo(3);
+
+        assertThat(acked(1)).containsExactly("1:v1", "1:v2", "1:v3");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from OUTBOX_EVENT where ship_date is null", Integer.class))
+                .isZero();
+        assertThat(relay.relayOnce()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 중 다시 실패해도 같은 key의 뒤 행이 앞서 나가지 않음")
+    void repeatedFailureKeepsOrder() {
+        write(modified(1, "v1"), modified(1, "v2"));
+
+        publisher.failing = "1:v1"::equals;
+        relay.relayOnce();
+        relay.relayOnce();
+
+        assertThat(publisher.sent).containsExactly("1:v1", "1:v1");
+
+        publisher.failing = label -> false;
+        relay.relayOnce();
+
+        assertThat(acked(1)).containsExactly("1:v1", "1:v2");
+    }
+
+    @Test
+    @DisplayName("다른 relay가 lease를 가진 행은 건너뛰고, lease가 끝나면 다시 잡음")
+    void leasedRowsAreSkippedUntilExpired() {
+        write(modified(1, "v1"), modified(2, "v1"));
+
+        jdbcTemplate.update("update OUTBOX_EVENT set lease_until = ? where id = (select min(id) from OUTBOX_EVENT)", LocalDateTime.now().plusMinutes(1));
+
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(publisher.sent).containsExactly("2:v1");
+
+        // lease를 잡은 relay가 결과를 기록하지 못하고 죽은 경우
+        jdbcTemplate.update("update OUTBOX_EVENT set lease_until = ? where ship_date is null", LocalDateTime.now().minusSeconds(1));
+
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(publisher.sent).containsExactly("2:v1", "1:v1");
+    }
+
+    @Test
+    @DisplayName("실패 기록은 자기 lease일 때만, lease가 끝나서 다른 relay가 잡은 행은 건드리지 않음")
+    void failureOnlyReleasesOwnLease() {
+        write(modified(1, "v1"));
+
+        LocalDateTime otherLease = LocalDateTime.now().plusMinutes(5).withNano(0);
+
+        // 전송하는 동안 lease가 끝나서 다른 relay가 같은 행을 잡은 상황
+        publisher.failing = label -> {
+            jdbcTemplate.update("update OUTBOX_EVENT set lease_until = ?", otherLease);
+            return true;
+        };
+
+        relay.relayOnce();
+
+        assertThat(jdbcTemplate.queryForObject("select attempts from OUTBOX_EVENT", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select lease_until from OUTBOX_EVENT", LocalDateTime.class)).isEqualTo(otherLease);
+    }
+
+    @Test
+    @DisplayName("maxAttempts에 도달한 행은 더 이상 잡지 않음")
+    void deadRowsAreNotClaimed() {
+        write(modified(1, "v1"));
+
+        publisher.failing = label -> true;
+
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            assertThat(relay.relayOnce()).isEqualTo(1);
+        }
+
+        assertThat(relay.relayOnce()).isZero();
+        assertThat(publisher.sent).hasSize(MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("leaseMs가 sendTimeoutMs보다 길지 않으면 기동 실패")
+    void leaseMustOutliveSendTimeout() {
+        assertThatThrownBy(() -> relay(1_000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("leaseMs");
+    }
+}
@@ -0,0 +1,147 @@
+package com.back.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternalIdentityVerifierTest {
+    private static final String SECRET_KEY = "identity-test-secret-0123456789abcdef";
+
+    // api-gateway의 IdentityTokenSignerTest가 같은 키 / 시각으로 만든 값 (서명 형식이 바뀌면 양쪽 모두 깨짐)
+    private static final String GOLDEN = "v1.12345.4102444800.dXNlcjEyMzQ1.7ZqM7JuQMTIzNDU.0XwEvdt36onXBBdJ4Ts8u3pO3kEqyC9aKrwGEdeh6xc";
+
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+
+    private final InternalIdentityVerifier verifier = new InternalIdentityVerifier(SECRET_KEY);
+
+    // IdentityTokenSigner와 같은 방식으로 payload에 서명 (버전 / 만료 시각을 바꿔 보기 위함)
+    private static String signed(String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return payload + "." + BASE64.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String b64(String value) {
+        return BASE64.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    @Test
+    @DisplayName("Gateway가 서명한 헤더를 회원 정보로 복원")
+    void verifiesSignerOutput() {
+        SecurityUser user = verifier.verify(GOLDEN);
+
+        assertThat(user).isNotNull();
+        assertThat(user.getId()).isEqualTo(12345);
+        assertThat(user.getUsername()).isEqualTo("user12345");
+        assertThat(user.getNickname()).isEqualTo("회원12345");
+        assertThat(user.getAuthorities()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 닉네임도 복원")
+    void emptyNickname() {
+        SecurityUser user = verifier.verify(signed("v1.7." + (now() + 60) + "." + b64("user7") + "."));
+
+        assertThat(user).isNotNull();
+        assertThat(user.getNickname()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 실패한 검증 뒤에도 다음 검증은 정상")
+    void macResetAfterFailure() {
+        assertThat(verifier.verify("v1.1.2.한글.b.c")).isNull();
+        assertThat(verifier.verify(GOLDEN)).isNotNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // id
+            "v1.12346.4102444800.dXNlcjEyMzQ1.7ZqM7JuQMTIzNDU.0XwEvdt36onXBBdJ4Ts8u3pO3kEqyC9aKrwGEdeh6xc",
+            // 만료 시각
+            "v1.12345.4102444801.dXNlcjEyMzQ1.7ZqM7JuQMTIzNDU.0XwEvdt36onXBBdJ4Ts8u3pO3kEqyC9aKrwGEdeh6xc",
+            // username (user12346)
+            "v1.12345.4102444800.dXNlcjEyMzQ2.7ZqM7JuQMTIzNDU.0XwEvdt36onXBBdJ4Ts8u3pO3kEqyC9aKrwGEdeh6xc",
+            // nickname
+            "v1.12345.4102444800.dXNlcjEyMzQ1.7ZqM7JuQMTIzNDY.0XwEvdt36onXBBdJ4Ts8u3pO3kEqyC9aKrwGEdeh6xc",
+            // 서명
+            "v1.12345.4102444800.dXNlcjEyMzQ1.7ZqM7JuQMTIzNDU.1XwEvdt36onXBBdJ4Ts8u3pO3kEqyC9aKrwGEdeh6xc",
+            // 서명 일부만
+            "v1.12345.4102444800.dXNlcjEyMzQ1.7ZqM7JuQMTIzNDU.0XwEvdt36onXBBdJ4Ts8u3pO3kEqyC9aKrwGEde",
+            // 서명이 base64가 아님
+            "v1.12345.4102444800.dXNlcjEyMzQ1.7ZqM7JuQMTIzNDU.0XwEvdt36onXBBdJ4Ts8u3pO3kEqyC9aKrwGEdeh6x!",
+    })
+    @DisplayName("어느 필드든 바뀌면 거절")
+    void rejectsTampered(String identity) {
+        assertThat(verifier.verify(identity)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 헤더는 거절")
+    void rejectsOtherKey() {
+        assertThat(new InternalIdentityVerifier("other-secret-0123456789abcdef0123").verify(GOLDEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("서명이 맞아도 만료된 헤더는 거절")
+    void rejectsExpired() {
+        assertThat(verifier.verify(signed("v1.1." + (now() - 1) + "." + b64("a") + "." + b64("b")))).isNull();
+        assertThat(verifier.verify(signed("v1.1." + (now() + 60) + "." + b64("a") + "." + b64("b")))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("서명이 맞아도 다른 버전이면 거절")
+    void rejectsOtherVersion() {
+        String payload = ".1." + (now() + 60) + "." + b64("a") + "." + b64("b");
+
+        assertThat(verifier.verify(signed("v2" + payload))).isNull();
+        assertThat(verifier.verify(signed("V1" + payload))).isNull();
+        assertThat(verifier.verify(signed("v1" + payload))).isNotNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "v1",
+            "v1.",
+            "v1.1.2.a.b",
+            "v1.1.2.a.b.c.d",
+            "v1.1.2.a..b.c",
+            "v1......",
+    })
+    @DisplayName("구분자 개수가 맞지 않으면 거절")
+    void rejectsMalformedDelimiters(String identity) {
+        assertThat(verifier.verify(identity)).isNull();
+    }
+
+    @Test
+    @DisplayName("구분자가 하나 빠지거나 더 붙은 서명된 헤더도 거절")
+    void rejectsSignedWithWrongFieldCount() {
+        long exp = now() + 60;
+
+        assertThat(verifier.verify(signed("v1.1." + exp + "." + b64("a")))).isNull();
+        assertThat(verifier.verify(signed("v1.1." + exp + "." + b64("a") + "." + b64("b") + ".extra"))).isNull();
+    }
+
+    @Test
+    @DisplayName("null / 숫자가 아닌 id는 거절")
+    void rejectsNullAndNonNumeric() {
+        assertThat(verifier.verify(null)).isNull();
+        assertThat(verifier.verify(signed("v1.x." + (now() + 60) + "." + b64("a") + "." + b64("b")))).isNull();
+    }
+}
@@ -0,0 +1,178 @@
+package com.back.shared.member.replica;
+
+import com.back.global.eventPublisher.EventPublisher;
+import com.back.shared.member.dto.MemberDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class ReplicaMemberSyncerTest {
+    private static final LocalDateTime T1 = LocalDateTime.of(2025, 6, 1, 12, 0, 0);
+    private static final LocalDateTime T2 = T1.plusSeconds(1);
+    private static final LocalDateTime T3 = T1.plusSeconds(2);
+
+    private final ReplicaMemberTable table = new ReplicaMemberTable("REPLICA_MEMBER", "test-group", member -> "created:" + member.id(), null);
+    private final EventPublisher eventPublisher = mock(EventPublisher.class);
+
+    private JdbcTemplate jdbcTemplate;
+    private ReplicaMemberSyncer syncer;
+    // 기존 행 조회 직후 실행 (그 사이 다른 컨슈머가 더 최신 행을 넣은 상황 재현용)
+    private Runnable afterLookup = () -> {};
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:replica-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"
+        );
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                create table REPLICA_MEMBER (
+                    id int primary key,
+                    create_date timestamp(6),
+                    modify_date timestamp(6),
+                    username varchar(255),
+                    password varchar(255),
+                    nickname varchar(255),
+                    activity_score int not null,
+                    api_key varchar(255)
+                )
+                """);
+
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource) {
+            @Override
+            public void query(String sql, Map<String, ?> paramMap, RowCallbackHandler rch) {
+                super.query(sql, paramMap, rch);
+                afterLookup.run();
+            }
+        };
+
+        syncer = new ReplicaMemberSyncer(jdbcTemplate, namedParameterJdbcTemplate, eventPublisher, new SimpleMeterRegistry());
+    }
+
+    private static MemberDto member(int id, LocalDateTime modifyDate, String nickname, int activityScore) {
+        return new MemberDto(id, T1, modifyDate, "user" + id, nickname, activityScore);
+    }
+
+    private Map<String, Object> row(int id) {
+        return jdbcTemplate.queryForMap("select nickname, activity_score from REPLICA_MEMBER where id = ?", id);
+    }
+
+    private void assertRow(int id, String nickname, int activityScore, LocalDateTime modifyDate) {
+        Map<String, Object> row = row(id);
+
+        assertThat(row.get("NICKNAME")).isEqualTo(nickname);
+        assertThat(row.get("ACTIVITY_SCORE")).isEqualTo(activityScore);
+        assertThat(jdbcTemplate.queryForObject("select modify_date from REPLICA_MEMBER where id = ?", LocalDateTime.class, id))
+                .isEqualTo(modifyDate);
+    }
+
+    @Test
+    @DisplayName("새 회원은 insert하고 새로 들어온 회원으로 반환")
+    void insertsNewMembers() {
+        List<MemberDto> created = syncer.apply(table, List.of(member(1, T1, "a", 0), member(2, T1, "b", 5)));
+
+        assertThat(created).extracting(MemberDto::id).containsExactly(1, 2);
+        assertRow(1, "a", 0, T1);
+        assertRow(2, "b", 5, T1);
+    }
+
+    @Test
+    @DisplayName("더 오래된 modifyDate는 더 최신 행을 덮어쓰지 않음")
+    void olderDoesNotOverwriteNewer() {
+        syncer.apply(table, List.of(member(1, T2, "new", 10)));
+
+        List<MemberDto> created = syncer.apply(table, List.of(member(1, T1, "old", 3)));
+
+        assertThat(created).isEmpty();
+        assertRow(1, "new", 10, T2);
+    }
+
+    @Test
+    @DisplayName("더 최신이거나 같은 modifyDate는 반영 (기존 회원이라 새 회원으로 반환하지 않음)")
+    void newerOrSameOverwrites() {
+        syncer.apply(table, List.of(member(1, T1, "a", 0)));
+
+        assertThat(syncer.apply(table, List.of(member(1, T2, "b", 1)))).isEmpty();
+        assertRow(1, "b", 1, T2);
+
+        assertThat(syncer.apply(table, List.of(member(1, T2, "c", 2)))).isEmpty();
+        assertRow(1, "c", 2, T2);
+    }
+
+    @Test
+    @DisplayName("한 묶음 안의 같은 회원은 modifyDate가 가장 늦은 것 하나로 합침")
+    void duplicateIdsCollapseToLatest() {
+        List<MemberDto> created = syncer.apply(table, List.of(
+                member(1, T2, "b", 2),
+                member(2, T1, "x", 0),
+                member(1, T3, "c", 3),
+                member(1, T1, "a", 1)
+        ));
+
+        assertThat(created).extracting(MemberDto::id).containsExactly(1, 2);
+        assertThat(created.getFirst().nickname()).isEqualTo("c");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from REPLICA_MEMBER", Integer.class)).isEqualTo(2);
+        assertRow(1, "c", 3, T3);
+    }
+
+    @Test
+    @DisplayName("한 묶음 안에서 modifyDate가 같으면 나중에 온 것")
+    void sameModifyDateInBatchTakesLast() {
+        syncer.apply(table, List.of(member(1, T1, "first", 1), member(1, T1, "second", 2)));
+
+        assertRow(1, "second", 2, T1);
+    }
+
+    @Test
+    @DisplayName("조회 후 다른 컨슈머가 더 최신 행을 넣었으면 upsert 조건으로 덮어쓰지 않음")
+    void concurrentNewerRowIsKept() {
+        afterLookup = () -> jdbcTemplate.update(
+                "insert into REPLICA_MEMBER (id, create_date, modify_date, username, password, nickname, activity_score) values (1, ?, ?, 'user1', '', 'concurrent', 9)",
+                T1, T3
+        );
+
+        syncer.apply(table, List.of(member(1, T2, "stale", 1), member(2, T2, "b", 0)));
+
+        assertRow(1, "concurrent", 9, T3);
+        assertRow(2, "b", 0, T2);
+    }
+
+    @Test
+    @DisplayName("한 문장의 행 수 제한을 넘는 묶음도 모두 반영")
+    void splitsLargeBatches() {
+        List<MemberDto> members = IntStream.rangeClosed(1, 1_200).mapToObj(id -> member(id, T1, "n" + id, id)).toList();
+
+        assertThat(syncer.apply(table, members)).hasSize(1_200);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from REPLICA_MEMBER", Integer.class)).isEqualTo(1_200);
+        assertRow(1_200, "n1200", 1_200, T1);
+    }
+
+    @Test
+    @DisplayName("sync는 새로 들어온 회원에 대해서만 생성 이벤트 발행")
+    void syncPublishesCreatedEventsForNewMembersOnly() {
+        syncer.apply(table, List.of(member(1, T1, "a", 0)));
+
+        syncer.sync(table, List.of(member(1, T2, "a2", 1), member(2, T1, "b", 0), member(2, T2, "b2", 0)));
+
+        verify(eventPublisher).publish("created:2");
+        verifyNoMoreInteractions(eventPublisher);
+    }
+}
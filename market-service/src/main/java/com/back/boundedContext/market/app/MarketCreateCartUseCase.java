@@ -9,6 +9,8 @@ import com.back.shared.market.dto.MarketMemberDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class MarketCreateCartUseCase {
@@ -28,4 +30,13 @@ public class MarketCreateCartUseCase {
                 cart
         );
     }
+
+    // 스냅샷 적재처럼 한꺼번에 들어온 회원의 장바구니 (호출한 트랜잭션 안에서)
+    public void createCarts(Collection<Integer> buyerIds) {
+        cartRepository.saveAll(
+                buyerIds.stream()
+                        .map(buyerId -> new Cart(marketMemberRepository.getReferenceById(buyerId)))
+                        .toList()
+        );
+    }
 }
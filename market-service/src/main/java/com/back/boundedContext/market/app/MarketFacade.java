@@ -11,6 +11,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -25,8 +27,13 @@ public class MarketFacade {
     private final MarketCancelOrderRequestPaymentUseCase marketCancelOrderRequestPaymentUseCase;
 
     @Transactional
-    public MarketMember syncMember(MemberDto member) {
-        return marketSyncMemberUseCase.syncMember(member);
+    public void syncMember(MemberDto member) {
+        marketSyncMemberUseCase.syncMembers(List.of(member));
+    }
+
+    @Transactional
+    public void syncMembers(Collection<MemberDto> members) {
+        marketSyncMemberUseCase.syncMembers(members);
     }
 
     @Transactional(readOnly = true)
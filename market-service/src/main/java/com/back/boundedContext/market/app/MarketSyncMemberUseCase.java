@@ -1,42 +1,21 @@
 package com.back.boundedContext.market.app;
 
-import com.back.boundedContext.market.domain.MarketMember;
-import com.back.boundedContext.market.out.MarketMemberRepository;
-import com.back.global.eventPublisher.EventPublisher;
-import com.back.shared.market.event.MarketMemberCreatedEvent;
 import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.replica.ReplicaMemberSyncer;
+import com.back.shared.member.replica.ReplicaMemberTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class MarketSyncMemberUseCase {
-    private final MarketMemberRepository marketMemberRepository;
-    private final EventPublisher eventPublisher;
-
-    public MarketMember syncMember(MemberDto member) {
-        boolean isNew = !marketMemberRepository.existsById(member.id());
-
-        MarketMember _member = marketMemberRepository.save(
-                new MarketMember(
-                        member.id(),
-                        member.createDate(),
-                        member.modifyDate(),
-                        member.username(),
-                        "",
-                        member.nickname(),
-                        member.activityScore()
-                )
-        );
-
-        if (isNew) {
-            eventPublisher.publish(
-                    new MarketMemberCreatedEvent(
-                            _member.toDto()
-                    )
-            );
-        }
+    private final ReplicaMemberSyncer replicaMemberSyncer;
+    private final ReplicaMemberTable marketReplicaMemberTable;
 
-        return _member;
+    // 새로 들어온 회원은 MarketReplicaMemberConfig의 생성 이벤트가 발행됨
+    public void syncMembers(Collection<MemberDto> members) {
+        replicaMemberSyncer.sync(marketReplicaMemberTable, members);
     }
 }
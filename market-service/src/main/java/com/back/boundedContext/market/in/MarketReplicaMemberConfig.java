@@ -0,0 +1,32 @@
+package com.back.boundedContext.market.in;
+
+import com.back.boundedContext.market.app.MarketCreateCartUseCase;
+import com.back.shared.market.dto.MarketMemberDto;
+import com.back.shared.market.event.MarketMemberCreatedEvent;
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.replica.ReplicaMemberTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MarketReplicaMemberConfig {
+    // 비어 있으면 기동 시 member-service 스냅샷으로 채움 (ReplicaMemberBootstrapper)
+    @Bean
+    public ReplicaMemberTable marketReplicaMemberTable(MarketCreateCartUseCase marketCreateCartUseCase) {
+        return new ReplicaMemberTable(
+                "MARKET_MEMBER",
+                "market-service",
+                member -> new MarketMemberCreatedEvent(
+                        new MarketMemberDto(
+                                member.id(),
+                                member.createDate(),
+                                member.modifyDate(),
+                                member.username(),
+                                member.nickname(),
+                                member.activityScore()
+                        )
+                ),
+                members -> marketCreateCartUseCase.createCarts(members.stream().map(MemberDto::id).toList())
+        );
+    }
+}
@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.1"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com"
@@ -27,6 +28,7 @@ repositories {
 dependencies {
     implementation(project(":common"))
     implementation("org.springframework.boot:spring-boot-h2console")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     runtimeOnly("com.h2database:h2")
@@ -42,6 +44,17 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// 성능 비교용 JMH 벤치마크 (src/jmh/java)
+// ./gradlew :member-service:jmh -PjmhIncludes=PasswordHasherBenchmark
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    resultFormat = "JSON"
+    includes = providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(listOf())
+}
+
 springBoot {
     mainClass.set("com.back.MemberApplication")
 }
@@ -0,0 +1,65 @@
+package com.back.boundedContext.member.app;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// 로그인 비밀번호 검증 처리량 (ops/s = logins/sec)
+// - perCore: 해시 스레드 1개, 요청 스레드 1개 → 코어 1개당 logins/sec
+// - direct: 요청 스레드에서 바로 검증 (이전 방식), perCore와의 차이가 실행기 전달 비용
+// - allCores: 코어 수만큼 해시 스레드 + 요청 스레드, 결과 / 코어 수가 포화 시 코어당 처리량
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PasswordHasherBenchmark {
+    // application.yml의 bcryptStrength 후보
+    @Param({"10", "12"})
+    public int cost;
+
+    private BCryptPasswordEncoder encoder;
+    private PasswordHasher perCoreHasher;
+    private PasswordHasher allCoresHasher;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(cost);
+        encoded = encoder.encode("password1234");
+
+        perCoreHasher = new PasswordHasher(encoder, new SimpleMeterRegistry(), 1, 16, 60_000);
+        allCoresHasher = new PasswordHasher(encoder, new SimpleMeterRegistry(), 0, 1_024, 60_000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        perCoreHasher.shutdown();
+        allCoresHasher.shutdown();
+    }
+
+    @Benchmark
+    public boolean direct() {
+        return encoder.matches("password1234", encoded);
+    }
+
+    @Benchmark
+    public boolean perCore() {
+        return perCoreHasher.matches("password1234", encoded);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean allCores() {
+        return allCoresHasher.matches("password1234", encoded);
+    }
+}
@@ -0,0 +1,122 @@
+package com.back.boundedContext.member.app;
+
+import com.back.boundedContext.member.out.MemberRepository;
+import com.back.global.eventPublisher.EventPublisher;
+import com.back.shared.member.event.MemberModifiedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 활동 점수 증가분을 회원별로 모았다가 주기마다 회원당 UPDATE 1번 + MemberModifiedEvent 1번으로 반영
+@Slf4j
+@Service
+public class MemberActivityScoreAccumulator implements SmartLifecycle {
+    private final MemberRepository memberRepository;
+    private final EventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // ConcurrentHashMap.merge는 bin 단위로 잠그므로 서로 다른 회원의 증가는 경합하지 않음
+    private final ConcurrentHashMap<Integer, Integer> pending = new ConcurrentHashMap<>();
+
+    private final Counter incrementsCounter;
+    private final Counter flushedCounter;
+
+    private volatile boolean running;
+
+    public MemberActivityScoreAccumulator(
+            MemberRepository memberRepository,
+            EventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.memberRepository = memberRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+
+        this.incrementsCounter = Counter.builder("member.activity.score.increments")
+                .description("Activity score increments received")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("member.activity.score.flushed")
+                .description("Member rows updated (and MemberModifiedEvents published) by flushes")
+                .register(meterRegistry);
+
+        // 증가 요청 수 / 실제 반영 수 (클수록 많이 합쳐짐)
+        Gauge.builder("member.activity.score.coalescing.ratio", this, it -> it.flushedCounter.count() == 0
+                        ? 0
+                        : it.incrementsCounter.count() / it.flushedCounter.count())
+                .register(meterRegistry);
+        Gauge.builder("member.activity.score.pending", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    public void increase(int memberId, int amount) {
+        if (amount == 0) return;
+
+        pending.merge(memberId, amount, Integer::sum);
+        incrementsCounter.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${custom.member.activityScore.flushIntervalMs:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        // remove로 꺼내므로 꺼내는 도중 들어온 증가분은 다음 주기로 넘어감
+        Map<Integer, Integer> deltas = new HashMap<>();
+        for (Integer memberId : pending.keySet()) {
+            Integer delta = pending.remove(memberId);
+            if (delta != null && delta != 0) deltas.put(memberId, delta);
+        }
+
+        if (deltas.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                deltas.forEach((memberId, delta) -> memberRepository.increaseActivityScore(memberId, delta, now));
+
+                memberRepository.findByIdIn(deltas.keySet())
+                        .forEach(member -> eventPublisher.publish(new MemberModifiedEvent(member.toDto())));
+            });
+
+            flushedCounter.increment(deltas.size());
+        } catch (Exception e) {
+            // 실패한 증가분은 다음 주기에 다시 시도
+            deltas.forEach((memberId, delta) -> pending.merge(memberId, delta, Integer::sum));
+            log.warn("Failed to flush activity scores for {} members: {}", deltas.size(), e.toString());
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 종료 시 남은 증가분 반영
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Kafka 리스너 컨테이너가 멈춘 뒤에 멈춤 (더 이상 증가분이 들어오지 않을 때 마지막 flush)
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE - 1;
+    }
+}
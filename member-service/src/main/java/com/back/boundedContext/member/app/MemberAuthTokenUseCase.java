@@ -1,41 +1,56 @@
 package com.back.boundedContext.member.app;
 
 import com.back.boundedContext.member.domain.Member;
-import com.back.standard.ut.Util;
+import com.back.standard.ut.JwtCodec;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class MemberAuthTokenUseCase {
-    @Value("${custom.jwt.secretKey}")
-    private String jwtSecretKey;
-
-    @Value("${custom.accessToken.expirationSeconds}")
-    private int accessTokenExpirationSeconds;
+    private final JwtCodec jwtCodec;
+    private final int accessTokenExpirationSeconds;
+
+    public MemberAuthTokenUseCase(
+            @Value("${custom.jwt.secretKey}") String jwtSecretKey,
+            @Value("${custom.accessToken.expirationSeconds}") int accessTokenExpirationSeconds
+    ) {
+        this.jwtCodec = JwtCodec.of(jwtSecretKey);
+        this.accessTokenExpirationSeconds = accessTokenExpirationSeconds;
+    }
 
     public String genAccessToken(Member member) {
         int id = member.getId();
         String username = member.getUsername();
         String nickname = member.getNickname();
 
-        return Util.jwt.toString(
-                jwtSecretKey,
+        return jwtCodec.encode(
                 accessTokenExpirationSeconds,
                 Map.of("id", id, "username", username, "nickname", nickname)
         );
     }
 
-    public Map<String, Object> payload(String accessToken) {
-        Map<String, Object> parsedPayload = Util.jwt.payload(jwtSecretKey, accessToken);
+    public Optional<AccessTokenPayload> payload(String accessToken) {
+        return jwtCodec.decode(accessToken)
+                .flatMap(MemberAuthTokenUseCase::toPayload);
+    }
 
-        if (parsedPayload == null) return null;
+    private static Optional<AccessTokenPayload> toPayload(Claims claims) {
+        Integer id = JwtCodec.claim(claims, "id", Integer.class);
+        String username = JwtCodec.claim(claims, "username", String.class);
+        String nickname = JwtCodec.claim(claims, "nickname", String.class);
 
-        int id = (int) parsedPayload.get("id");
-        String username = (String) parsedPayload.get("username");
-        String nickname = (String) parsedPayload.get("nickname");
+        if (id == null || username == null) return Optional.empty();
 
-        return Map.of("id", id, "username", username, "nickname", nickname);
+        return Optional.of(new AccessTokenPayload(id, username, nickname));
     }
+
+    public record AccessTokenPayload(
+            int id,
+            String username,
+            String nickname
+    ) {}
 }
@@ -6,7 +6,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -17,8 +21,12 @@ public class MemberFacade {
     private final MemberGetRandomSecureTipUseCase memberGetRandomSecureTipUseCase;
     private final MemberLoginUseCase memberLoginUseCase;
     private final MemberAuthTokenUseCase memberAuthTokenUseCase;
+    private final MemberRefreshTokenUseCase memberRefreshTokenUseCase;
+    private final MemberSnapshotUseCase memberSnapshotUseCase;
+    private final MemberActivityScoreAccumulator memberActivityScoreAccumulator;
+    private final MemberImportUseCase memberImportUseCase;
 
-    @Transactional
+    // 해시 계산 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
     public RsData<Member> join(String username, String password, String nickname) {
         return memberJoinUseCase.join(username, password, nickname);
     }
@@ -47,7 +55,29 @@ public class MemberFacade {
         return memberSupport.findByApiKey(apiKey);
     }
 
+    // 캐시 적중 시 DB 커넥션을 쓰지 않도록 트랜잭션 없이 실행 (미적중 시 리포지토리의 읽기 트랜잭션)
+    public Optional<MemberLookupCache.CachedMember> findCachedById(int id) {
+        return memberSupport.findCachedById(id);
+    }
+
+    public Optional<MemberLookupCache.CachedMember> findCachedByUsername(String username) {
+        return memberSupport.findCachedByUsername(username);
+    }
+
+    public Optional<MemberLookupCache.CachedMember> findCachedByApiKey(String apiKey) {
+        return memberSupport.findCachedByApiKey(apiKey);
+    }
+
+    public void evictCachedMember(int id) {
+        memberSupport.evictCached(id);
+    }
+
     @Transactional(readOnly = true)
+    public List<Member> findByIdIn(Collection<Integer> ids) {
+        return memberSupport.findByIdIn(ids);
+    }
+
+    // 해시 검증 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
     public Member login(String username, String password) {
         return memberLoginUseCase.login(username, password);
     }
@@ -56,7 +86,41 @@ public class MemberFacade {
         return memberAuthTokenUseCase.genAccessToken(member);
     }
 
-    public Map<String, Object> payload(String accessToken) {
+    public Optional<MemberAuthTokenUseCase.AccessTokenPayload> payload(String accessToken) {
         return memberAuthTokenUseCase.payload(accessToken);
     }
+
+    @Transactional
+    public String issueRefreshToken(Member member) {
+        return memberRefreshTokenUseCase.issue(member);
+    }
+
+    @Transactional
+    public Optional<MemberRefreshTokenUseCase.RotatedRefreshToken> rotateRefreshToken(String refreshToken) {
+        return memberRefreshTokenUseCase.rotate(refreshToken);
+    }
+
+    @Transactional
+    public void revokeRefreshToken(String refreshToken) {
+        memberRefreshTokenUseCase.revoke(refreshToken);
+    }
+
+    // 바로 반영하지 않고 모았다가 주기적으로 반영
+    public void increaseActivityScore(int memberId, int amount) {
+        memberActivityScoreAccumulator.increase(memberId, amount);
+    }
+
+    public String captureMemberEventOffsets() {
+        return memberSnapshotUseCase.captureEventOffsets();
+    }
+
+    // 스트리밍 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행 (페이지 조회마다 짧은 읽기 트랜잭션)
+    public void writeSnapshot(OutputStream out) throws IOException {
+        memberSnapshotUseCase.writeSnapshot(out);
+    }
+
+    // 묶음마다 짧은 트랜잭션 (전체를 한 트랜잭션으로 잡지 않음)
+    public MemberImportUseCase.ImportResult importMembers(InputStream in) throws IOException {
+        return memberImportUseCase.importMembers(in);
+    }
 }
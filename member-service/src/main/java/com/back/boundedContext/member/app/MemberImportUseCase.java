@@ -0,0 +1,240 @@
+package com.back.boundedContext.member.app;
+
+import com.back.global.eventPublisher.EventPublisher;
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.event.MemberJoinedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// 기존 회원 일괄 이관: NDJSON을 한 줄씩 읽어 batchSize 단위로 JDBC batch insert
+// - 비밀번호는 이미 BCrypt로 해시된 값만 받음 (가입처럼 해시하지 않음)
+// - 이미 있는 username은 건너뜀
+// - 묶음마다 한 트랜잭션 (회원 insert + MemberJoinedEvent outbox 기록)
+@Slf4j
+@Service
+public class MemberImportUseCase {
+    private static final String INSERT_SQL = """
+            insert into MEMBER_MEMBER (username, password, nickname, activity_score, api_key, create_date, modify_date)
+            values (?, ?, ?, 0, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    private final Counter importedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public MemberImportUseCase(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            EventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${custom.member.import.batchSize:1000}") int batchSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+
+        this.importedCounter = Counter.builder("member.import.rows").tag("result", "imported").register(meterRegistry);
+        this.skippedCounter = Counter.builder("member.import.rows").tag("result", "skipped").register(meterRegistry);
+        this.failedCounter = Counter.builder("member.import.rows").tag("result", "failed").register(meterRegistry);
+    }
+
+    public record ImportLine(
+            String username,
+            String password,
+            String nickname
+    ) {}
+
+    public record ImportResult(
+            long total,
+            long imported,
+            long skipped,
+            long failed,
+            long elapsedMs,
+            long rowsPerSecond
+    ) {}
+
+    private static class Progress {
+        private final long startNanos = System.nanoTime();
+        private long total;
+        private long imported;
+        private long skipped;
+        private long failed;
+
+        private long elapsedMs() {
+            return (System.nanoTime() - startNanos) / 1_000_000;
+        }
+
+        private ImportResult toResult() {
+            long elapsedMs = elapsedMs();
+            return new ImportResult(total, imported, skipped, failed, elapsedMs, elapsedMs == 0 ? total : total * 1000 / elapsedMs);
+        }
+    }
+
+    public ImportResult importMembers(InputStream in) throws IOException {
+        Progress progress = new Progress();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<ImportLine> chunk = new ArrayList<>(batchSize);
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+
+                progress.total++;
+
+                ImportLine parsed = parse(line);
+                if (parsed == null) {
+                    progress.failed++;
+                    failedCounter.increment();
+                    continue;
+                }
+
+                chunk.add(parsed);
+
+                if (chunk.size() >= batchSize) {
+                    importChunk(chunk, progress);
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+
+            if (!chunk.isEmpty()) importChunk(chunk, progress);
+        }
+
+        ImportResult result = progress.toResult();
+        log.info("Member import finished: {}", result);
+
+        return result;
+    }
+
+    private ImportLine parse(String line) {
+        try {
+            ImportLine parsed = objectMapper.readValue(line, ImportLine.class);
+
+            if (isBlank(parsed.username()) || isBlank(parsed.nickname())) return null;
+            if (parsed.username().length() > 30 || parsed.nickname().length() > 30) return null;
+            // BCrypt 해시만 허용 ($2a$ / $2b$ / $2y$)
+            if (parsed.password() == null || !parsed.password().startsWith("$2")) return null;
+
+            return parsed;
+        } catch (JacksonException e) {
+            return null;
+        }
+    }
+
+    private void importChunk(List<ImportLine> chunk, Progress progress) {
+        // 묶음 안의 중복 username은 처음 것만
+        Map<String, ImportLine> byUsername = new LinkedHashMap<>();
+        chunk.forEach(line -> byUsername.putIfAbsent(line.username(), line));
+
+        try {
+            List<MemberDto> joined = transactionTemplate.execute(status -> {
+                List<MemberDto> inserted = insertNew(byUsername);
+                // 같은 트랜잭션에 outbox로 기록 (Kafka 전송은 OutboxRelay가 묶어서)
+                eventPublisher.publishAll(inserted.stream().map(MemberJoinedEvent::new).toList());
+                return inserted;
+            });
+
+            long skipped = chunk.size() - joined.size();
+            progress.imported += joined.size();
+            progress.skipped += skipped;
+            importedCounter.increment(joined.size());
+            skippedCounter.increment(skipped);
+
+        } catch (DataAccessException e) {
+            // 그 사이 같은 username으로 가입된 경우 등: 이 묶음만 실패 처리하고 계속
+            progress.failed += chunk.size();
+            failedCounter.increment(chunk.size());
+            log.warn("Member import chunk of {} failed: {}", chunk.size(), e.toString());
+        }
+
+        ImportResult current = progress.toResult();
+        log.info(
+                "Member import progress: total={}, imported={}, skipped={}, failed={}, {} rows/s",
+                current.total(), current.imported(), current.skipped(), current.failed(), current.rowsPerSecond()
+        );
+    }
+
+    private List<MemberDto> insertNew(Map<String, ImportLine> byUsername) {
+        Set<String> existing = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "select username from MEMBER_MEMBER where username in (:usernames)",
+                Map.of("usernames", byUsername.keySet()),
+                String.class
+        ));
+
+        List<ImportLine> fresh = byUsername.values()
+                .stream()
+                .filter(line -> !existing.contains(line.username()))
+                .toList();
+
+        if (fresh.isEmpty()) return List.of();
+
+        LocalDateTime now = LocalDateTime.now();
+
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                fresh.stream()
+                        .map(line -> new Object[]{
+                                line.username(),
+                                line.password(),
+                                line.nickname(),
+                                UUID.randomUUID().toString(),
+                                now,
+                                now
+                        })
+                        .toList()
+        );
+
+        // 생성된 id를 포함해서 다시 읽음 (이벤트 발행용)
+        return namedParameterJdbcTemplate.query(
+                "select id, create_date, modify_date, username, nickname, activity_score from MEMBER_MEMBER where username in (:usernames)",
+                Map.of("usernames", fresh.stream().map(ImportLine::username).toList()),
+                (rs, rowNum) -> new MemberDto(
+                        rs.getInt("id"),
+                        rs.getTimestamp("create_date").toLocalDateTime(),
+                        rs.getTimestamp("modify_date").toLocalDateTime(),
+                        rs.getString("username"),
+                        rs.getString("nickname"),
+                        rs.getInt("activity_score")
+                )
+        );
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -6,26 +6,44 @@ import com.back.global.eventPublisher.EventPublisher;
 import com.back.global.exception.DomainException;
 import com.back.global.rsData.RsData;
 import com.back.shared.member.event.MemberJoinedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+// 해시는 트랜잭션 밖에서, 저장 + 이벤트 기록만 짧은 트랜잭션으로
+// 호출자가 트랜잭션을 열었으면(DataInit 등) 그 트랜잭션에 참여
 @Service
 @RequiredArgsConstructor
 public class MemberJoinUseCase {
     private final MemberRepository memberRepository;
     private final EventPublisher eventPublisher;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
 
     public RsData<Member> join(String username, String password, String nickname) {
-        memberRepository.findByUsername(username).ifPresent(m -> {
-            throw new DomainException("409-1", "이미 존재하는 username 입니다.");
-        });
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        String encodedPassword = passwordHasher.encode(password);
 
-        String encodedPassword = passwordEncoder.encode(password);
-        Member member = memberRepository.save(new Member(username, encodedPassword, nickname));
+        // 중복 확인 SELECT 없이 username 유니크 제약으로 판단
+        // 회원 저장과 outbox 기록을 한 트랜잭션으로 (Kafka 전송은 커밋 후 OutboxRelay)
+        Member member;
+        try {
+            member = transactionTemplate.execute(status -> {
+                Member saved = memberRepository.saveAndFlush(new Member(username, encodedPassword, nickname));
+                eventPublisher.publish(new MemberJoinedEvent(saved.toDto()));
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            sample.stop(meterRegistry.timer("member.join", "result", "duplicate"));
+            throw new DomainException("409-1", "이미 존재하는 username 입니다.");
+        }
 
-        eventPublisher.publish(new MemberJoinedEvent(member.toDto()));
+        sample.stop(meterRegistry.timer("member.join", "result", "success"));
 
         return new RsData<>("201-1", "%d번 회원이 생성되었습니다.".formatted(member.getId()), member);
     }
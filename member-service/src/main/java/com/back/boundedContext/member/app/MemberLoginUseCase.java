@@ -4,23 +4,28 @@ import com.back.boundedContext.member.domain.Member;
 import com.back.boundedContext.member.out.MemberRepository;
 import com.back.global.exception.DomainException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+// 트랜잭션 없이 실행 (조회/재해시 저장은 각각 짧은 트랜잭션, 해시 검증 동안 DB 커넥션을 잡지 않음)
 @Service
 @RequiredArgsConstructor
 public class MemberLoginUseCase {
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
     public Member login(String username, String password) {
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new DomainException("401-1", "존재하지 않는 아이디입니다."));
 
-        if (!passwordEncoder.matches(password, member.getPassword())) {
+        if (!passwordHasher.matches(password, member.getPassword())) {
             throw new DomainException("401-2", "비밀번호가 일치하지 않습니다.");
         }
 
+        // BCrypt cost 설정이 바뀌었으면 평문을 알고 있는 지금 새 cost로 다시 저장
+        if (passwordHasher.needsRehash(member.getPassword())) {
+            memberRepository.updatePassword(member.getId(), member.getPassword(), passwordHasher.encode(password));
+        }
+
         return member;
     }
 }
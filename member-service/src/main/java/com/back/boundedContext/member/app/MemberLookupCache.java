@@ -0,0 +1,184 @@
+package com.back.boundedContext.member.app;
+
+import com.back.boundedContext.member.domain.Member;
+import com.back.shared.member.dto.MemberDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// id / username / apiKey로 찾는 회원 조회 캐시
+// - 본체는 id → 불변 스냅샷 하나, username/apiKey는 id만 가리키는 보조 인덱스
+// - 보조 인덱스가 옛 값을 가리킬 수 있으므로 읽을 때 스냅샷 값과 다시 비교
+// - 변경(MemberModifiedEvent) 시 id로 무효화, 조회 도중 그 회원이 무효화됐으면 결과를 남기지 않음
+//   - 이 인스턴스의 변경은 커밋 직후 로컬 이벤트로, 다른 인스턴스의 변경은 member.modified 토픽으로 (MemberKafkaListener)
+@Component
+public class MemberLookupCache {
+    public record CachedMember(
+            int id,
+            LocalDateTime createDate,
+            LocalDateTime modifyDate,
+            String username,
+            String nickname,
+            int activityScore,
+            String apiKey
+    ) {
+        static CachedMember of(Member member) {
+            return new CachedMember(
+                    member.getId(),
+                    member.getCreateDate(),
+                    member.getModifyDate(),
+                    member.getUsername(),
+                    member.getNickname(),
+                    member.getActivityScore(),
+                    member.getApiKey()
+            );
+        }
+
+        public MemberDto toDto() {
+            return new MemberDto(id, createDate, modifyDate, username, nickname, activityScore);
+        }
+    }
+
+    private final Cache<Integer, CachedMember> byId;
+    private final Cache<String, Integer> idByUsername;
+    private final Cache<String, Integer> idByApiKey;
+    // 진행 중인 조회마다 그 동안 무효화된 회원 id (조회 전에는 어떤 회원인지 모르므로 결과를 받은 뒤 그 회원만 비교)
+    private final Set<Loading> loadings = ConcurrentHashMap.newKeySet();
+
+    private final Index idIndex;
+    private final Index usernameIndex;
+    private final Index apiKeyIndex;
+
+    public MemberLookupCache(
+            @Value("${custom.member.lookupCache.maximumSize:100000}") long maximumSize,
+            @Value("${custom.member.lookupCache.ttlSeconds:60}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+
+        this.byId = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        this.idByUsername = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build();
+        this.idByApiKey = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build();
+
+        // 적중률: cache.gets{cache=member.lookup,result=hit|miss}
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "member.lookup");
+
+        this.idIndex = new Index("id", meterRegistry);
+        this.usernameIndex = new Index("username", meterRegistry);
+        this.apiKeyIndex = new Index("apiKey", meterRegistry);
+    }
+
+    public Optional<CachedMember> getById(int id, Supplier<Optional<Member>> loader) {
+        long start = System.nanoTime();
+
+        CachedMember cached = byId.getIfPresent(id);
+        if (cached != null) return idIndex.hit(start, cached);
+
+        return idIndex.miss(start, load(loader));
+    }
+
+    public Optional<CachedMember> getByUsername(String username, Supplier<Optional<Member>> loader) {
+        return getBySecondary(usernameIndex, idByUsername, username, CachedMember::username, loader);
+    }
+
+    public Optional<CachedMember> getByApiKey(String apiKey, Supplier<Optional<Member>> loader) {
+        return getBySecondary(apiKeyIndex, idByApiKey, apiKey, CachedMember::apiKey, loader);
+    }
+
+    public void evict(int id) {
+        // 무효화하기 전에 기록해야 아직 넣지 않은 조회 결과도 놓치지 않음
+        loadings.forEach(loading -> loading.evicted.add(id));
+        byId.invalidate(id);
+    }
+
+    private Optional<CachedMember> getBySecondary(
+            Index index,
+            Cache<String, Integer> secondary,
+            String key,
+            Function<CachedMember, String> keyOf,
+            Supplier<Optional<Member>> loader
+    ) {
+        long start = System.nanoTime();
+
+        Integer id = secondary.getIfPresent(key);
+        if (id != null) {
+            CachedMember cached = byId.getIfPresent(id);
+            if (cached != null && Objects.equals(keyOf.apply(cached), key)) return index.hit(start, cached);
+        }
+
+        return index.miss(start, load(loader));
+    }
+
+    private static class Loading {
+        private final Set<Integer> evicted = ConcurrentHashMap.newKeySet();
+    }
+
+    private Optional<CachedMember> load(Supplier<Optional<Member>> loader) {
+        Loading loading = new Loading();
+        loadings.add(loading);
+
+        Optional<CachedMember> loaded;
+
+        try {
+            loaded = loader.get().map(CachedMember::of);
+
+            // 넣은 뒤에 비교해야 그 사이의 무효화를 놓치지 않음
+            loaded.ifPresent(this::put);
+        } finally {
+            loadings.remove(loading);
+        }
+
+        // 조회하는 동안 그 회원이 무효화됐으면 옛 값일 수 있으므로 캐시에서 뺌 (다른 회원의 무효화는 상관없음)
+        loaded.filter(it -> loading.evicted.contains(it.id()))
+                .ifPresent(it -> byId.asMap().remove(it.id(), it));
+
+        return loaded;
+    }
+
+    private void put(CachedMember member) {
+        byId.put(member.id(), member);
+        if (member.username() != null) idByUsername.put(member.username(), member.id());
+        if (member.apiKey() != null) idByApiKey.put(member.apiKey(), member.id());
+    }
+
+    // 조회 경로별 응답 시간: member.lookup{index=id|username|apiKey,result=hit|miss}
+    private static class Index {
+        private final Timer hitTimer;
+        private final Timer missTimer;
+
+        Index(String name, MeterRegistry meterRegistry) {
+            this.hitTimer = Timer.builder("member.lookup")
+                    .tag("index", name)
+                    .tag("result", "hit")
+                    .register(meterRegistry);
+            this.missTimer = Timer.builder("member.lookup")
+                    .tag("index", name)
+                    .tag("result", "miss")
+                    .register(meterRegistry);
+        }
+
+        Optional<CachedMember> hit(long start, CachedMember member) {
+            hitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(member);
+        }
+
+        Optional<CachedMember> miss(long start, Optional<CachedMember> member) {
+            missTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return member;
+        }
+    }
+}
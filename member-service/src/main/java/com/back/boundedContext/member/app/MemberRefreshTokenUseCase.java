@@ -0,0 +1,119 @@
+package com.back.boundedContext.member.app;
+
+import com.back.boundedContext.member.domain.Member;
+import com.back.boundedContext.member.domain.MemberRefreshToken;
+import com.back.boundedContext.member.out.MemberRefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class MemberRefreshTokenUseCase {
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final MemberRefreshTokenRepository memberRefreshTokenRepository;
+    private final long expirationSeconds;
+    private final long reuseGraceSeconds;
+    private final long revokedRetentionSeconds;
+
+    public MemberRefreshTokenUseCase(
+            MemberRefreshTokenRepository memberRefreshTokenRepository,
+            @Value("${custom.refreshToken.expirationSeconds}") long expirationSeconds,
+            @Value("${custom.refreshToken.reuseGraceSeconds:30}") long reuseGraceSeconds,
+            @Value("${custom.refreshToken.revokedRetentionSeconds:604800}") long revokedRetentionSeconds
+    ) {
+        this.memberRefreshTokenRepository = memberRefreshTokenRepository;
+        this.expirationSeconds = expirationSeconds;
+        this.reuseGraceSeconds = reuseGraceSeconds;
+        this.revokedRetentionSeconds = revokedRetentionSeconds;
+    }
+
+    // 원문 토큰 반환 (DB에는 해시만 저장)
+    public String issue(Member member) {
+        byte[] bytes = new byte[32];
+        SECURE_RANDOM.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        memberRefreshTokenRepository.save(
+                new MemberRefreshToken(member, hash(refreshToken), LocalDateTime.now().plusSeconds(expirationSeconds))
+        );
+
+        return refreshToken;
+    }
+
+    // 기존 토큰을 폐기하고 새 토큰 발급
+    // 이미 폐기된 토큰이 다시 쓰이면
+    // - 폐기 직후(reuseGraceSeconds 이내): 동시 요청으로 보고 토큰당 한 번만 새 토큰 발급
+    // - 그 이후: 탈취로 보고 해당 회원의 모든 토큰 폐기
+    // 같은 토큰의 동시 교체는 조건부 UPDATE 결과로 하나만 통과시킴
+    public Optional<RotatedRefreshToken> rotate(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) return Optional.empty();
+
+        String tokenHash = hash(refreshToken);
+
+        MemberRefreshToken token = memberRefreshTokenRepository.findByTokenHash(tokenHash).orElse(null);
+        if (token == null) return Optional.empty();
+
+        LocalDateTime now = LocalDateTime.now();
+        if (token.isExpired(now)) return Optional.empty();
+
+        if (token.isRevoked() && token.getRevokeDate().plusSeconds(reuseGraceSeconds).isBefore(now)) {
+            memberRefreshTokenRepository.revokeAllByMember(token.getMember(), now);
+            return Optional.empty();
+        }
+
+        // 이미 폐기됐거나(유예 중) 동시에 다른 요청이 먼저 폐기했으면 유예 재발급 한 번만
+        boolean rotated = !token.isRevoked() && memberRefreshTokenRepository.revokeIfActive(tokenHash, now) == 1;
+        if (!rotated && memberRefreshTokenRepository.markGraceReissued(token.getId(), now) == 0) {
+            return Optional.empty();
+        }
+
+        Member member = token.getMember();
+
+        return Optional.of(new RotatedRefreshToken(member, issue(member)));
+    }
+
+    public void revoke(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) return;
+
+        memberRefreshTokenRepository.revokeWithoutGrace(hash(refreshToken), LocalDateTime.now());
+    }
+
+    // 만료된 토큰, 폐기 후 revokedRetentionSeconds가 지난 토큰 삭제
+    // (보관 기간 동안은 폐기된 토큰 재사용을 탈취로 감지할 수 있음)
+    @Scheduled(fixedDelayString = "${custom.refreshToken.purgeIntervalMs:3600000}")
+    @Transactional
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int deleted = memberRefreshTokenRepository.deleteExpiredOrRevoked(now, now.minusSeconds(revokedRetentionSeconds));
+
+        if (deleted > 0) log.info("Purged {} expired or revoked refresh tokens", deleted);
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record RotatedRefreshToken(
+            Member member,
+            String refreshToken
+    ) {}
+}
@@ -0,0 +1,59 @@
+package com.back.boundedContext.member.app;
+
+import com.back.boundedContext.member.domain.Member;
+import com.back.global.kafka.KafkaAdminSupport;
+import com.back.global.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberSnapshotUseCase {
+    private static final List<String> MEMBER_TOPICS = List.of(KafkaTopics.MEMBER_JOINED, KafkaTopics.MEMBER_MODIFIED);
+
+    private final MemberSupport memberSupport;
+    private final KafkaAdminSupport kafkaAdminSupport;
+    private final ObjectMapper objectMapper;
+
+    @Value("${custom.member.snapshot.pageSize:1000}")
+    private int pageSize;
+
+    // 스냅샷을 읽기 전에 기록 (이후 이벤트는 컨슈머가 다시 받아도 syncMember가 덮어쓰므로 안전)
+    public String captureEventOffsets() {
+        try {
+            return KafkaAdminSupport.formatOffsets(kafkaAdminSupport.endOffsets(MEMBER_TOPICS));
+        } catch (Exception e) {
+            log.warn("Failed to read member event offsets for snapshot: {}", e.toString());
+            return "";
+        }
+    }
+
+    // id 키셋 페이지 단위로 읽어 한 줄에 회원 하나씩 NDJSON으로 씀 (페이지마다 짧은 읽기 트랜잭션)
+    public void writeSnapshot(OutputStream out) throws IOException {
+        int lastId = 0;
+
+        while (true) {
+            List<Member> page = memberSupport.findPageAfter(lastId, pageSize);
+
+            for (Member member : page) {
+                out.write(objectMapper.writeValueAsBytes(member.toDto()));
+                out.write('\n');
+            }
+
+            if (page.size() < pageSize) break;
+
+            lastId = page.getLast().getId();
+            out.flush();
+        }
+
+        out.flush();
+    }
+}
@@ -3,14 +3,18 @@ package com.back.boundedContext.member.app;
 import com.back.boundedContext.member.domain.Member;
 import com.back.boundedContext.member.out.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class MemberSupport {
     private final MemberRepository memberRepository;
+    private final MemberLookupCache memberLookupCache;
 
     public long count() {
         return memberRepository.count();
@@ -27,4 +31,29 @@ public class MemberSupport {
     public Optional<Member> findByApiKey(String apiKey) {
         return memberRepository.findByApiKey(apiKey);
     }
+
+    // 조회 전용 (캐시된 불변 스냅샷, 변경이 필요하면 위의 엔티티 조회 사용)
+    public Optional<MemberLookupCache.CachedMember> findCachedById(int id) {
+        return memberLookupCache.getById(id, () -> memberRepository.findById(id));
+    }
+
+    public Optional<MemberLookupCache.CachedMember> findCachedByUsername(String username) {
+        return memberLookupCache.getByUsername(username, () -> memberRepository.findByUsername(username));
+    }
+
+    public Optional<MemberLookupCache.CachedMember> findCachedByApiKey(String apiKey) {
+        return memberLookupCache.getByApiKey(apiKey, () -> memberRepository.findByApiKey(apiKey));
+    }
+
+    public void evictCached(int id) {
+        memberLookupCache.evict(id);
+    }
+
+    public List<Member> findByIdIn(Collection<Integer> ids) {
+        return memberRepository.findByIdIn(ids);
+    }
+
+    public List<Member> findPageAfter(int lastId, int size) {
+        return memberRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(size));
+    }
 }
@@ -28,19 +28,12 @@ public class Member extends SourceMember {
         );
     }
 
-    public int increaseActivityScore(int amount) {
-        if (amount == 0) return getActivityScore();
-
-        setActivityScore(getActivityScore() + amount);
+    public void changeApiKey(String apiKey) {
+        setApiKey(apiKey);
 
+        // Gateway apiKey 캐시 무효화용
         publishEvent(
                 new MemberModifiedEvent(toDto())
         );
-
-        return getActivityScore();
-    }
-
-    public void changeApiKey(String apiKey) {
-        setApiKey(apiKey);
     }
 }
@@ -0,0 +1,45 @@
+package com.back.boundedContext.member.domain;
+
+import com.back.global.jpa.entity.BaseIdAndTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.FetchType.LAZY;
+
+// 리프레시 토큰 (원문은 저장하지 않고 SHA-256 해시만 저장)
+// 사용 시마다 새 토큰으로 교체(rotation)하고 기존 토큰은 revokeDate 기록
+// 상태 변경은 동시 요청 경합을 막기 위해 조건부 UPDATE로 (MemberRefreshTokenRepository)
+@Entity
+@Table(name = "MEMBER_REFRESH_TOKEN")
+@Getter
+@NoArgsConstructor
+public class MemberRefreshToken extends BaseIdAndTime {
+    @ManyToOne(fetch = LAZY)
+    private Member member;
+    @Column(unique = true, length = 64)
+    private String tokenHash;
+    private LocalDateTime expireDate;
+    private LocalDateTime revokeDate;
+    // 폐기 직후 동시 요청으로 한 번 더 발급한 시각 (토큰당 한 번만 허용, 로그아웃 / 전체 폐기 때는 발급 없이 채워서 막음)
+    private LocalDateTime graceReissueDate;
+
+    public MemberRefreshToken(Member member, String tokenHash, LocalDateTime expireDate) {
+        this.member = member;
+        this.tokenHash = tokenHash;
+        this.expireDate = expireDate;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expireDate.isAfter(now);
+    }
+
+    public boolean isRevoked() {
+        return revokeDate != null;
+    }
+}
@@ -1,24 +1,43 @@
 package com.back.boundedContext.member.in;
 
 import com.back.boundedContext.member.app.MemberFacade;
+import com.back.boundedContext.member.app.MemberImportUseCase;
+import com.back.boundedContext.member.app.MemberLookupCache;
 import com.back.boundedContext.member.domain.Member;
+import com.back.global.auth.SystemAuthTokenProvider;
 import com.back.global.exception.DomainException;
 import com.back.global.rq.Rq;
 import com.back.global.rsData.RsData;
+import com.back.global.security.SecurityUser;
 import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.out.MemberSnapshotClient;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/member/members")
 @RequiredArgsConstructor
 public class ApiV1MemberController {
+    private static final String ADMIN_ROLE = "ROLE_ADMIN";
+
     private final MemberFacade memberFacade;
     private final Rq rq;
+    private final SystemAuthTokenProvider systemAuthTokenProvider;
 
     @GetMapping("/randomSecureTip")
     public String getRandomSecureTip() {
@@ -32,7 +51,6 @@ public class ApiV1MemberController {
     ) {}
 
     @PostMapping("/join")
-    @Transactional
     public RsData<MemberDto> join(@Valid @RequestBody JoinReqBody reqBody) {
         RsData<Member> rs = memberFacade.join(reqBody.username(), reqBody.password(), reqBody.nickname());
         return new RsData<>(rs.getResultCode(), rs.getMsg(), rs.getData().toDto());
@@ -50,13 +68,13 @@ public class ApiV1MemberController {
     ) {}
 
     @PostMapping("/login")
-    @Transactional(readOnly = true)
     public RsData<LoginResBody> login(@Valid @RequestBody LoginReqBody reqBody) {
         Member member = memberFacade.login(reqBody.username(), reqBody.password());
         String accessToken = memberFacade.genAccessToken(member);
 
         rq.setCookie("apiKey", member.getApiKey());
         rq.setCookie("accessToken", accessToken);
+        rq.setCookie("refreshToken", memberFacade.issueRefreshToken(member));
 
         return new RsData<>(
                 "200-1",
@@ -67,47 +85,116 @@ public class ApiV1MemberController {
 
     @DeleteMapping("/logout")
     public RsData<Void> logout() {
+        memberFacade.revokeRefreshToken(rq.getCookieValue("refreshToken", ""));
+
         rq.deleteCookie("apiKey");
         rq.deleteCookie("accessToken");
+        rq.deleteCookie("refreshToken");
 
         return new RsData<>("200-1", "로그아웃 되었습니다.");
     }
 
+    public record RefreshTokenReqBody(
+            @NotBlank String refreshToken
+    ) {}
+
+    public record RefreshTokenResBody(
+            MemberDto item,
+            String accessToken,
+            String refreshToken
+    ) {}
+
+    // 리프레시 토큰 교체 + AccessToken 재발급 (Gateway가 만료 임박/만료 시 호출)
+    @PostMapping("/refresh-token")
+    public RsData<RefreshTokenResBody> refreshToken(@Valid @RequestBody RefreshTokenReqBody reqBody) {
+        return memberFacade.rotateRefreshToken(reqBody.refreshToken())
+                .map(rotated -> {
+                    String accessToken = memberFacade.genAccessToken(rotated.member());
+
+                    rq.setCookie("accessToken", accessToken);
+                    rq.setCookie("refreshToken", rotated.refreshToken());
+
+                    return new RsData<>(
+                            "200-1",
+                            "토큰이 재발급되었습니다.",
+                            new RefreshTokenResBody(rotated.member().toDto(), accessToken, rotated.refreshToken())
+                    );
+                })
+                .orElseGet(() -> new RsData<>("401-1", "리프레시 토큰이 유효하지 않습니다.", null));
+    }
+
     @GetMapping("/me")
-    @Transactional(readOnly = true)
     public MemberDto me() {
-        return memberFacade.findById(rq.getActor().getId())
-                .map(Member::toDto)
+        return memberFacade.findCachedById(rq.getActor().getId())
+                .map(MemberLookupCache.CachedMember::toDto)
                 .orElseThrow(() -> new DomainException("404-1", "회원을 찾을 수 없습니다."));
     }
 
     @GetMapping("/{id}")
-    @Transactional(readOnly = true)
     public MemberDto getMemberById(@PathVariable int id) {
-        return memberFacade.findById(id)
-                .map(Member::toDto)
+        return memberFacade.findCachedById(id)
+                .map(MemberLookupCache.CachedMember::toDto)
                 .orElse(null);
     }
 
-    @GetMapping("/by-apikey/{apiKey}")
+    public record BatchReqBody(
+            @NotEmpty @Size(max = 5000) List<Integer> ids
+    ) {}
+
+    // id 목록으로 한 번에 조회 (IN 쿼리 1번), 없는 id는 결과에서 빠짐 (서비스 간 호출 전용, 시스템 API Key 필요)
+    @PostMapping("/batch")
     @Transactional(readOnly = true)
-    public MemberDto getMemberByApiKey(@PathVariable String apiKey) {
-        return memberFacade.findByApiKey(apiKey)
+    public List<MemberDto> getMembersByIds(@Valid @RequestBody BatchReqBody reqBody) {
+        checkSystem();
+
+        return memberFacade.findByIdIn(new HashSet<>(reqBody.ids()))
+                .stream()
                 .map(Member::toDto)
+                .toList();
+    }
+
+    // 복제 테이블 초기 적재용 전체 회원 스냅샷 (NDJSON 스트리밍, 시스템 API Key/관리자 전용)
+    @GetMapping(value = "/snapshot", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> snapshot() {
+        checkSystemOrAdmin();
+
+        // 스냅샷을 읽기 전의 offset이어야 그 사이 이벤트를 놓치지 않음
+        String offsets = memberFacade.captureMemberEventOffsets();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON);
+        if (!offsets.isBlank()) response.header(MemberSnapshotClient.OFFSETS_HEADER, offsets);
+
+        return response.body(memberFacade::writeSnapshot);
+    }
+
+    // 기존 회원 일괄 이관 (NDJSON, 한 줄에 {"username", "password"(BCrypt 해시), "nickname"})
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public RsData<MemberImportUseCase.ImportResult> importMembers(InputStream body) throws IOException {
+        checkSystemOrAdmin();
+
+        MemberImportUseCase.ImportResult result = memberFacade.importMembers(body);
+
+        return new RsData<>(
+                "200-1",
+                "%d명 중 %d명 가입, %d명 건너뜀, %d명 실패".formatted(result.total(), result.imported(), result.skipped(), result.failed()),
+                result
+        );
+    }
+
+    @GetMapping("/by-apikey/{apiKey}")
+    public MemberDto getMemberByApiKey(@PathVariable String apiKey) {
+        return memberFacade.findCachedByApiKey(apiKey)
+                .map(MemberLookupCache.CachedMember::toDto)
                 .orElse(null);
     }
 
     public record ValidateTokenReqBody(String accessToken) {}
 
     @PostMapping("/validate-token")
-    @Transactional(readOnly = true)
     public MemberDto validateToken(@RequestBody ValidateTokenReqBody reqBody) {
-        var payload = memberFacade.payload(reqBody.accessToken());
-        if (payload == null) return null;
-
-        int id = (int) payload.get("id");
-        return memberFacade.findById(id)
-                .map(Member::toDto)
+        return memberFacade.payload(reqBody.accessToken())
+                .flatMap(payload -> memberFacade.findCachedById(payload.id()))
+                .map(MemberLookupCache.CachedMember::toDto)
                 .orElse(null);
     }
 
@@ -118,4 +205,32 @@ public class ApiV1MemberController {
                 .map(member -> new RsData<>("200-1", "토큰 생성 성공", memberFacade.genAccessToken(member)))
                 .orElse(new RsData<>("404-1", "회원을 찾을 수 없습니다.", null));
     }
+
+    private void checkSystem() {
+        if (systemAuthTokenProvider.isSystemAuthorizationHeader(rq.getHeader("Authorization", ""))) return;
+
+        throw new DomainException("403-1", "권한이 없습니다.");
+    }
+
+    private void checkSystemOrAdmin() {
+        if (systemAuthTokenProvider.isSystemAuthorizationHeader(rq.getHeader("Authorization", ""))) return;
+
+        SecurityUser actor = rq.getActor();
+        if (actor != null && isAdmin(actor)) return;
+
+        throw new DomainException("403-1", "권한이 없습니다.");
+    }
+
+    // Gateway 식별 헤더에는 권한이 없으므로 없으면 회원의 권한으로 확인
+    private boolean isAdmin(SecurityUser actor) {
+        if (hasAdminRole(actor.getAuthorities())) return true;
+
+        return memberFacade.findById(actor.getId())
+                .map(member -> hasAdminRole(member.getAuthorities()))
+                .orElse(false);
+    }
+
+    private boolean hasAdminRole(Collection<? extends GrantedAuthority> authorities) {
+        return authorities.stream().anyMatch(authority -> ADMIN_ROLE.equals(authority.getAuthority()));
+    }
 }
@@ -1,15 +1,13 @@
 package com.back.boundedContext.member.in;
 
 import com.back.boundedContext.member.app.MemberFacade;
-import com.back.boundedContext.member.domain.Member;
+import com.back.shared.member.event.MemberModifiedEvent;
 import com.back.shared.post.event.PostCommentCreatedEvent;
 import com.back.shared.post.event.PostCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
 import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
 
 @Component
@@ -18,18 +16,18 @@ public class MemberEventListener {
     private final MemberFacade memberFacade;
 
     @TransactionalEventListener(phase = AFTER_COMMIT)
-    @Transactional(propagation = REQUIRES_NEW)
     public void handle(PostCreatedEvent event) {
-        Member member = memberFacade.findById(event.post().authorId()).get();
-
-        member.increaseActivityScore(3);
+        memberFacade.increaseActivityScore(event.post().authorId(), 3);
     }
 
     @TransactionalEventListener(phase = AFTER_COMMIT)
-    @Transactional(propagation = REQUIRES_NEW)
     public void handle(PostCommentCreatedEvent event) {
-        Member member = memberFacade.findById(event.postComment().authorId()).get();
+        memberFacade.increaseActivityScore(event.postComment().authorId(), 1);
+    }
 
-        member.increaseActivityScore(1);
+    // 트랜잭션 없이 발행된 경우에도 무효화
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void handle(MemberModifiedEvent event) {
+        memberFacade.evictCachedMember(event.member().id());
     }
 }
@@ -1,15 +1,14 @@
 package com.back.boundedContext.member.in;
 
 import com.back.boundedContext.member.app.MemberFacade;
-import com.back.boundedContext.member.domain.Member;
 import com.back.global.kafka.KafkaTopics;
+import com.back.shared.member.event.MemberModifiedEvent;
 import com.back.shared.post.event.PostCommentCreatedEvent;
 import com.back.shared.post.event.PostCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
@@ -18,18 +17,20 @@ public class MemberKafkaListener {
     private final MemberFacade memberFacade;
 
     @KafkaListener(topics = KafkaTopics.POST_CREATED, groupId = "member-service")
-    @Transactional
     public void handlePostCreated(PostCreatedEvent event) {
         log.info("Received PostCreatedEvent via Kafka: postId={}", event.post().id());
-        Member member = memberFacade.findById(event.post().authorId()).get();
-        member.increaseActivityScore(3);
+        memberFacade.increaseActivityScore(event.post().authorId(), 3);
     }
 
     @KafkaListener(topics = KafkaTopics.POST_COMMENT_CREATED, groupId = "member-service")
-    @Transactional
     public void handlePostCommentCreated(PostCommentCreatedEvent event) {
         log.info("Received PostCommentCreatedEvent via Kafka: commentId={}", event.postComment().id());
-        Member member = memberFacade.findById(event.postComment().authorId()).get();
-        member.increaseActivityScore(1);
+        memberFacade.increaseActivityScore(event.postComment().authorId(), 1);
+    }
+
+    // 다른 member-service 인스턴스에서 바뀐 회원의 조회 캐시 무효화 (모든 인스턴스가 받아야 하므로 groupId는 인스턴스마다 다르게)
+    @KafkaListener(topics = KafkaTopics.MEMBER_MODIFIED, groupId = "${custom.member.lookupCache.groupId}")
+    public void handleMemberModified(MemberModifiedEvent event) {
+        memberFacade.evictCachedMember(event.member().id());
     }
 }
@@ -0,0 +1,50 @@
+package com.back.boundedContext.member.out;
+
+import com.back.boundedContext.member.domain.Member;
+import com.back.boundedContext.member.domain.MemberRefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface MemberRefreshTokenRepository extends JpaRepository<MemberRefreshToken, Integer> {
+    // 트랜잭션 밖(컨트롤러)에서 회원 정보를 쓰므로 함께 조회
+    @Query("select t from MemberRefreshToken t join fetch t.member where t.tokenHash = :tokenHash")
+    Optional<MemberRefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // 아직 폐기되지 않았을 때만 폐기 (동시 요청 중 하나만 1 반환)
+    @Modifying
+    @Query("update MemberRefreshToken t set t.revokeDate = :now where t.tokenHash = :tokenHash and t.revokeDate is null")
+    int revokeIfActive(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    // 유예 재발급은 토큰당 한 번만 (이미 했으면 0)
+    @Modifying
+    @Query("update MemberRefreshToken t set t.graceReissueDate = :now where t.id = :id and t.graceReissueDate is null")
+    int markGraceReissued(@Param("id") int id, @Param("now") LocalDateTime now);
+
+    // 로그아웃: 유예 재발급도 막음 (폐기 직후 같은 토큰으로 다시 발급받지 못하도록)
+    @Modifying
+    @Query("""
+            update MemberRefreshToken t
+            set t.revokeDate = coalesce(t.revokeDate, :now), t.graceReissueDate = coalesce(t.graceReissueDate, :now)
+            where t.tokenHash = :tokenHash and (t.revokeDate is null or t.graceReissueDate is null)
+            """)
+    int revokeWithoutGrace(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    // 탈취 감지: 회원의 모든 토큰 폐기 + 유예 재발급도 막음 (방금 폐기된 토큰으로 다시 발급받지 못하도록)
+    @Modifying
+    @Query("""
+            update MemberRefreshToken t
+            set t.revokeDate = coalesce(t.revokeDate, :now), t.graceReissueDate = coalesce(t.graceReissueDate, :now)
+            where t.member = :member and (t.revokeDate is null or t.graceReissueDate is null)
+            """)
+    int revokeAllByMember(@Param("member") Member member, @Param("now") LocalDateTime now);
+
+    // 만료됐거나 폐기 후 보관 기간이 지난 토큰 삭제
+    @Modifying
+    @Query("delete from MemberRefreshToken t where t.expireDate < :now or t.revokeDate < :revokedBefore")
+    int deleteExpiredOrRevoked(@Param("now") LocalDateTime now, @Param("revokedBefore") LocalDateTime revokedBefore);
+}
@@ -1,12 +1,44 @@
 package com.back.boundedContext.member.out;
 
 import com.back.boundedContext.member.domain.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Integer> {
     Optional<Member> findByUsername(String username);
 
     Optional<Member> findByApiKey(String apiKey);
+
+    List<Member> findByIdIn(Collection<Integer> ids);
+
+    // 스냅샷용 키셋 페이지 (offset 없이 마지막 id 다음부터)
+    List<Member> findByIdGreaterThanOrderByIdAsc(int id, Limit limit);
+
+    // 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않도록 기존 해시가 같을 때만 변경
+    @Modifying
+    @Transactional
+    @Query("update Member m set m.password = :newPassword where m.id = :id and m.password = :oldPassword")
+    int updatePassword(
+            @Param("id") int id,
+            @Param("oldPassword") String oldPassword,
+            @Param("newPassword") String newPassword
+    );
+
+    // 모아둔 활동 점수 증가분을 한 번에 더함 (MemberActivityScoreAccumulator)
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.activityScore = m.activityScore + :amount, m.modifyDate = :modifyDate where m.id = :id")
+    int increaseActivityScore(
+            @Param("id") int id,
+            @Param("amount") int amount,
+            @Param("modifyDate") LocalDateTime modifyDate
+    );
 }
@@ -0,0 +1,123 @@
+package com.back.boundedContext.member.app;
+
+import com.back.boundedContext.member.domain.Member;
+import com.back.boundedContext.member.out.MemberRepository;
+import com.back.global.eventPublisher.EventPublisher;
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.event.MemberModifiedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberActivityScoreAccumulatorTest {
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final EventPublisher eventPublisher = mock(EventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MemberActivityScoreAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new MemberActivityScoreAccumulator(
+                memberRepository,
+                eventPublisher,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                meterRegistry
+        );
+
+        // flush 후 다시 읽은 회원으로 이벤트 발행
+        when(memberRepository.findByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Integer> ids = invocation.getArgument(0);
+            return ids.stream().map(MemberActivityScoreAccumulatorTest::member).toList();
+        });
+    }
+
+    private static Member member(int id) {
+        Member member = mock(Member.class);
+        when(member.toDto()).thenReturn(new MemberDto(id, null, null, "user" + id, "user" + id, 0));
+        return member;
+    }
+
+    @Test
+    @DisplayName("같은 회원의 증가분은 합쳐서 회원당 UPDATE 1번 + MemberModifiedEvent 1번")
+    void coalescesPerMember() {
+        accumulator.increase(1, 3);
+        accumulator.increase(1, 1);
+        accumulator.increase(2, 1);
+        accumulator.increase(1, 3);
+        accumulator.increase(2, 0);
+
+        accumulator.flush();
+
+        verify(memberRepository).increaseActivityScore(eq(1), eq(7), any(LocalDateTime.class));
+        verify(memberRepository).increaseActivityScore(eq(2), eq(1), any(LocalDateTime.class));
+        verify(memberRepository, times(2)).increaseActivityScore(anyInt(), anyInt(), any(LocalDateTime.class));
+        verify(eventPublisher, times(2)).publish(any(MemberModifiedEvent.class));
+
+        assertThat(meterRegistry.get("member.activity.score.coalescing.ratio").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("member.activity.score.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영한 증가분은 다음 flush에서 다시 더하지 않음")
+    void flushDrainsPending() {
+        accumulator.increase(1, 3);
+        accumulator.flush();
+        accumulator.flush();
+
+        verify(memberRepository, times(1)).increaseActivityScore(anyInt(), anyInt(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 그 사이 들어온 증가분과 합쳐 다음 flush에서 다시 시도")
+    void failedFlushIsRetried() {
+        when(memberRepository.increaseActivityScore(eq(1), anyInt(), any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+
+        accumulator.increase(1, 3);
+        accumulator.flush();
+
+        accumulator.increase(1, 1);
+        accumulator.flush();
+
+        verify(memberRepository).increaseActivityScore(eq(1), eq(3), any(LocalDateTime.class));
+        verify(memberRepository).increaseActivityScore(eq(1), eq(4), any(LocalDateTime.class));
+        verify(eventPublisher, times(1)).publish(any(MemberModifiedEvent.class));
+    }
+
+    @Test
+    @DisplayName("종료 시 주기를 기다리지 않고 남은 증가분을 반영")
+    void flushesOnStop() {
+        accumulator.start();
+        accumulator.increase(1, 3);
+        accumulator.increase(1, 1);
+
+        verify(memberRepository, never()).increaseActivityScore(anyInt(), anyInt(), any(LocalDateTime.class));
+
+        accumulator.stop();
+
+        verify(memberRepository).increaseActivityScore(eq(1), eq(4), any(LocalDateTime.class));
+        verify(memberRepository).findByIdIn(Set.of(1));
+        verify(eventPublisher).publish(any(MemberModifiedEvent.class));
+        assertThat(accumulator.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,166 @@
+package com.back.boundedContext.member.app;
+
+import com.back.boundedContext.member.domain.Member;
+import com.back.boundedContext.member.domain.MemberRefreshToken;
+import com.back.boundedContext.member.out.MemberRefreshTokenRepository;
+import com.back.boundedContext.member.out.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시 교체는 실제 커밋 / 행 잠금이 필요하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberRefreshTokenUseCaseTest {
+    private static final long REUSE_GRACE_SECONDS = 30;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberRefreshTokenRepository memberRefreshTokenRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DataSource dataSource;
+
+    private TransactionTemplate transactionTemplate;
+    private MemberRefreshTokenUseCase useCase;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        useCase = new MemberRefreshTokenUseCase(memberRefreshTokenRepository, 3600, REUSE_GRACE_SECONDS, 604800);
+
+        String username = "user-" + UUID.randomUUID();
+        member = transactionTemplate.execute(status -> memberRepository.save(new Member(username, "{noop}1234", username)));
+    }
+
+    // MemberFacade처럼 요청마다 트랜잭션 하나
+    private Optional<MemberRefreshTokenUseCase.RotatedRefreshToken> rotate(String refreshToken) {
+        return transactionTemplate.execute(status -> useCase.rotate(refreshToken));
+    }
+
+    private String issue() {
+        return transactionTemplate.execute(status -> useCase.issue(member));
+    }
+
+    private List<MemberRefreshToken> tokens() {
+        return transactionTemplate.execute(status -> memberRefreshTokenRepository.findAll().stream()
+                .filter(token -> token.getMember().getId() == member.getId())
+                .sorted(Comparator.comparingInt(MemberRefreshToken::getId))
+                .toList());
+    }
+
+    private void revokedAgo(MemberRefreshToken token, long seconds) {
+        new JdbcTemplate(dataSource).update(
+                "update MEMBER_REFRESH_TOKEN set revoke_date = ? where id = ?",
+                LocalDateTime.now().minusSeconds(seconds),
+                token.getId()
+        );
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 동시 교체는 교체 1번 + 유예 재발급 최대 1번만 통과")
+    void concurrentRotation() throws Exception {
+        String refreshToken = issue();
+        int threads = 8;
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<MemberRefreshTokenUseCase.RotatedRefreshToken>>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return rotate(refreshToken);
+                }));
+            }
+
+            start.countDown();
+        }
+
+        List<String> issued = new ArrayList<>();
+        for (Future<Optional<MemberRefreshTokenUseCase.RotatedRefreshToken>> future : futures) {
+            future.get().ifPresent(rotated -> issued.add(rotated.refreshToken()));
+        }
+
+        assertThat(issued).hasSizeBetween(1, 2).doesNotHaveDuplicates();
+
+        List<MemberRefreshToken> tokens = tokens();
+        MemberRefreshToken original = tokens.getFirst();
+
+        assertThat(original.isRevoked()).isTrue();
+        assertThat(original.getGraceReissueDate() != null).isEqualTo(issued.size() == 2);
+        // 통과한 요청 수만큼만 새 토큰이 생기고 모두 유효
+        assertThat(tokens.subList(1, tokens.size()))
+                .hasSize(issued.size())
+                .noneMatch(MemberRefreshToken::isRevoked);
+    }
+
+    @Test
+    @DisplayName("교체 직후 같은 토큰은 한 번만 더 발급, 그 다음은 거절 (회원의 다른 토큰은 유지)")
+    void graceReissueOnlyOnce() {
+        String refreshToken = issue();
+
+        assertThat(rotate(refreshToken)).isPresent();
+        assertThat(rotate(refreshToken)).isPresent();
+        assertThat(rotate(refreshToken)).isEmpty();
+
+        List<MemberRefreshToken> tokens = tokens();
+
+        assertThat(tokens).hasSize(3);
+        assertThat(tokens.getFirst().isRevoked()).isTrue();
+        assertThat(tokens.subList(1, 3)).noneMatch(MemberRefreshToken::isRevoked);
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 뒤 폐기된 토큰이 다시 쓰이면 회원의 모든 토큰 폐기, 새 토큰도 유예 재발급 불가")
+    void reuseAfterGraceRevokesFamily() {
+        String refreshToken = issue();
+        String otherDevice = issue();
+        String rotated = rotate(refreshToken).orElseThrow().refreshToken();
+
+        revokedAgo(tokens().getFirst(), REUSE_GRACE_SECONDS + 1);
+
+        assertThat(rotate(refreshToken)).isEmpty();
+        assertThat(tokens()).allMatch(MemberRefreshToken::isRevoked);
+
+        // 방금 폐기된 토큰이라도 유예 재발급으로 살아나지 않음
+        assertThat(rotate(rotated)).isEmpty();
+        assertThat(rotate(otherDevice)).isEmpty();
+        assertThat(tokens()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 유예 시간 안이라도 재발급 불가")
+    void revokedByLogoutIsNotReissued() {
+        String refreshToken = issue();
+
+        transactionTemplate.executeWithoutResult(status -> useCase.revoke(refreshToken));
+
+        assertThat(rotate(refreshToken)).isEmpty();
+        assertThat(tokens()).hasSize(1).allMatch(MemberRefreshToken::isRevoked);
+    }
+}
@@ -0,0 +1,140 @@
+package com.back.boundedContext.member.app;
+
+import com.back.global.exception.DomainException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PasswordHasher> hashers = new ArrayList<>();
+
+    private PasswordHasher hasher(PasswordEncoder passwordEncoder, int threads, int queueCapacity, long timeoutMs) {
+        PasswordHasher hasher = new PasswordHasher(passwordEncoder, meterRegistry, threads, queueCapacity, timeoutMs);
+        hashers.add(hasher);
+        return hasher;
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashers.forEach(PasswordHasher::shutdown);
+    }
+
+    @Test
+    @DisplayName("encode한 해시는 같은 비밀번호와만 일치")
+    void matches() {
+        PasswordHasher hasher = hasher(new BCryptPasswordEncoder(4), 2, 10, 5_000);
+
+        String encoded = hasher.encode("1234");
+
+        assertThat(hasher.matches("1234", encoded)).isTrue();
+        assertThat(hasher.matches("12345", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("설정보다 낮은 cost의 해시만 재해시 대상, 같거나 높으면 유지")
+    void needsRehash() {
+        PasswordHasher hasher = hasher(new BCryptPasswordEncoder(5), 1, 10, 5_000);
+
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("1234"))).isTrue();
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("1234"))).isFalse();
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(6).encode("1234"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("BCrypt 형식이 아닌 해시는 재해시 대상이 아님")
+    void needsRehashIgnoresUnknownFormat() {
+        PasswordHasher hasher = hasher(new BCryptPasswordEncoder(4), 1, 10, 5_000);
+
+        assertThat(hasher.needsRehash("{noop}1234")).isFalse();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 바로 503-1")
+    void saturation() throws Exception {
+        BlockingEncoder encoder = new BlockingEncoder();
+        PasswordHasher hasher = hasher(encoder, 1, 1, 10_000);
+
+        // 1개는 실행 중, 1개는 대기열
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+        assertThat(encoder.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("b"));
+        awaitQueued(1);
+
+        assertThatThrownBy(() -> hasher.encode("c"))
+                .isInstanceOf(DomainException.class)
+                .extracting("resultCode")
+                .isEqualTo("503-1");
+
+        encoder.release.countDown();
+
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:b");
+    }
+
+    @Test
+    @DisplayName("timeoutMs 안에 끝나지 않으면 503-1")
+    void timeout() {
+        BlockingEncoder encoder = new BlockingEncoder();
+        PasswordHasher hasher = hasher(encoder, 1, 1, 100);
+
+        try {
+            assertThatThrownBy(() -> hasher.matches("a", "hashed:a"))
+                    .isInstanceOf(DomainException.class)
+                    .extracting("resultCode")
+                    .isEqualTo("503-1");
+        } finally {
+            encoder.release.countDown();
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    // release 전까지 끝나지 않는 인코더 (실행 스레드를 붙잡아 두기 위함)
+    private static class BlockingEncoder implements PasswordEncoder {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            block();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            block();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void block() {
+            entered.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
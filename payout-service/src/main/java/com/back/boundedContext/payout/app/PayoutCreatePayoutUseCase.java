@@ -8,6 +8,8 @@ import com.back.shared.payout.dto.PayoutMemberDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class PayoutCreatePayoutUseCase {
@@ -25,4 +27,13 @@ public class PayoutCreatePayoutUseCase {
 
         return payout;
     }
+
+    // 스냅샷 적재처럼 한꺼번에 들어온 회원의 정산 (호출한 트랜잭션 안에서)
+    public void createPayouts(Collection<Integer> payeeIds) {
+        payoutRepository.saveAll(
+                payeeIds.stream()
+                        .map(payeeId -> new Payout(payoutMemberRepository.getReferenceById(payeeId)))
+                        .toList()
+        );
+    }
 }
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,7 +27,12 @@ public class PayoutFacade {
 
     @Transactional
     public void syncMember(MemberDto member) {
-        payoutSyncMemberUseCase.syncMember(member);
+        payoutSyncMemberUseCase.syncMembers(List.of(member));
+    }
+
+    @Transactional
+    public void syncMembers(Collection<MemberDto> members) {
+        payoutSyncMemberUseCase.syncMembers(members);
     }
 
     @Transactional
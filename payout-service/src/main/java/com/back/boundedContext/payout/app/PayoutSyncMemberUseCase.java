@@ -1,42 +1,21 @@
 package com.back.boundedContext.payout.app;
 
-import com.back.boundedContext.payout.domain.PayoutMember;
-import com.back.boundedContext.payout.out.PayoutMemberRepository;
-import com.back.global.eventPublisher.EventPublisher;
 import com.back.shared.member.dto.MemberDto;
-import com.back.shared.payout.event.PayoutMemberCreatedEvent;
+import com.back.shared.member.replica.ReplicaMemberSyncer;
+import com.back.shared.member.replica.ReplicaMemberTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class PayoutSyncMemberUseCase {
-    private final PayoutMemberRepository payoutMemberRepository;
-    private final EventPublisher eventPublisher;
-
-    public PayoutMember syncMember(MemberDto member) {
-        boolean isNew = !payoutMemberRepository.existsById(member.id());
-
-        PayoutMember _member = payoutMemberRepository.save(
-                new PayoutMember(
-                        member.id(),
-                        member.createDate(),
-                        member.modifyDate(),
-                        member.username(),
-                        "",
-                        member.nickname(),
-                        member.activityScore()
-                )
-        );
-
-        if (isNew) {
-            eventPublisher.publish(
-                    new PayoutMemberCreatedEvent(
-                            _member.toDto()
-                    )
-            );
-        }
+    private final ReplicaMemberSyncer replicaMemberSyncer;
+    private final ReplicaMemberTable payoutReplicaMemberTable;
 
-        return _member;
+    // 새로 들어온 회원은 PayoutReplicaMemberConfig의 생성 이벤트가 발행됨
+    public void syncMembers(Collection<MemberDto> members) {
+        replicaMemberSyncer.sync(payoutReplicaMemberTable, members);
     }
 }
@@ -3,32 +3,34 @@ package com.back.boundedContext.payout.in;
 import com.back.boundedContext.payout.app.PayoutFacade;
 import com.back.global.kafka.KafkaTopics;
 import com.back.shared.market.event.MarketOrderPaymentCompletedEvent;
-import com.back.shared.member.event.MemberJoinedEvent;
-import com.back.shared.member.event.MemberModifiedEvent;
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.replica.ReplicaMemberEvents;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PayoutKafkaListener {
     private final PayoutFacade payoutFacade;
 
-    @KafkaListener(topics = KafkaTopics.MEMBER_JOINED, groupId = "payout-service")
-    @Transactional
-    public void handleMemberJoined(MemberJoinedEvent event) {
-        log.info("Received MemberJoinedEvent via Kafka: memberId={}", event.member().id());
-        payoutFacade.syncMember(event.member());
-    }
-
-    @KafkaListener(topics = KafkaTopics.MEMBER_MODIFIED, groupId = "payout-service")
-    @Transactional
-    public void handleMemberModified(MemberModifiedEvent event) {
-        log.info("Received MemberModifiedEvent via Kafka: memberId={}", event.member().id());
-        payoutFacade.syncMember(event.member());
+    // member.joined / member.modified를 poll 단위로 묶어서 한 트랜잭션 + bulk upsert로 반영
+    // (같은 회원은 가장 최신 이벤트만 반영, ReplicaMemberSyncer)
+    @KafkaListener(
+            topics = {KafkaTopics.MEMBER_JOINED, KafkaTopics.MEMBER_MODIFIED},
+            groupId = "payout-service",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void handleMemberEvents(List<ConsumerRecord<String, Object>> records) {
+        List<MemberDto> members = ReplicaMemberEvents.members(records);
+        log.info("Received {} member events via Kafka", members.size());
+        payoutFacade.syncMembers(members);
     }
 
     @KafkaListener(topics = KafkaTopics.MARKET_ORDER_PAYMENT_COMPLETED, groupId = "payout-service")
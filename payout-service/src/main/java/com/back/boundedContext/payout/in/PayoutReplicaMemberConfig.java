@@ -0,0 +1,32 @@
+package com.back.boundedContext.payout.in;
+
+import com.back.boundedContext.payout.app.PayoutCreatePayoutUseCase;
+import com.back.shared.payout.dto.PayoutMemberDto;
+import com.back.shared.payout.event.PayoutMemberCreatedEvent;
+import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.replica.ReplicaMemberTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PayoutReplicaMemberConfig {
+    // 비어 있으면 기동 시 member-service 스냅샷으로 채움 (ReplicaMemberBootstrapper)
+    @Bean
+    public ReplicaMemberTable payoutReplicaMemberTable(PayoutCreatePayoutUseCase payoutCreatePayoutUseCase) {
+        return new ReplicaMemberTable(
+                "PAYOUT_MEMBER",
+                "payout-service",
+                member -> new PayoutMemberCreatedEvent(
+                        new PayoutMemberDto(
+                                member.id(),
+                                member.createDate(),
+                                member.modifyDate(),
+                                member.username(),
+                                member.nickname(),
+                                member.activityScore()
+                        )
+                ),
+                members -> payoutCreatePayoutUseCase.createPayouts(members.stream().map(MemberDto::id).toList())
+        );
+    }
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,8 +20,13 @@ public class PostFacade {
     private final PostWriteUseCase postWriteUseCase;
 
     @Transactional
-    public PostMember syncMember(MemberDto member) {
-        return postSyncMemberUseCase.syncMember(member);
+    public void syncMember(MemberDto member) {
+        postSyncMemberUseCase.syncMembers(List.of(member));
+    }
+
+    @Transactional
+    public void syncMembers(Collection<MemberDto> members) {
+        postSyncMemberUseCase.syncMembers(members);
     }
 
     @Transactional
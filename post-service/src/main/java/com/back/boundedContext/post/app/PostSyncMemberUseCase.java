@@ -1,27 +1,20 @@
 package com.back.boundedContext.post.app;
 
-import com.back.boundedContext.post.domain.PostMember;
-import com.back.boundedContext.post.out.PostMemberRepository;
 import com.back.shared.member.dto.MemberDto;
+import com.back.shared.member.replica.ReplicaMemberSyncer;
+import com.back.shared.member.replica.ReplicaMemberTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class PostSyncMemberUseCase {
-    private final PostMemberRepository postMemberRepository;
-
-    public PostMember syncMember(MemberDto member) {
-        PostMember postMember = new PostMember(
-                member.id(),
-                member.createDate(),
-                member.modifyDate(),
-                member.username(),
-                "",
-                member.nickname(),
-                member.activityScore()
-        );
+    private final ReplicaMemberSyncer replicaMemberSyncer;
+    private final ReplicaMemberTable postReplicaMemberTable;
 
-        return postMemberRepository.save(postMember);
+    public void syncMembers(Collection<MemberDto> members) {
+        replicaMemberSyncer.sync(postReplicaMemberTable, members);
     }
 }
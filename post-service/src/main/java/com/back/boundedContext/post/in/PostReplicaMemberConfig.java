@@ -0,0 +1,19 @@
+package com.back.boundedContext.post.in;
+
+import com.back.shared.member.replica.ReplicaMemberTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PostReplicaMemberConfig {
+    // 비어 있으면 기동 시 member-service 스냅샷으로 채움 (ReplicaMemberBootstrapper)
+    @Bean
+    public ReplicaMemberTable postReplicaMemberTable() {
+        return new ReplicaMemberTable(
+                "POST_MEMBER",
+                "post-service",
+                null,
+                null
+        );
+    }
+}
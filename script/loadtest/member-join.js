@@ -0,0 +1,71 @@
+// 회원 가입 부하 테스트 (k6)
+// - joins/sec: http_reqs{scenario:join} rate, 지연: http_req_duration p(99)
+// - duplicate 시나리오는 이미 있는 username으로 가입해서 유니크 제약 위반(409-1) 경로도 같이 측정
+//   (DomainException 핸들러가 없어 HTTP 상태는 2xx가 아님만 확인)
+//
+// docker run --rm -i --network host -e BASE_URL=http://localhost:9000 grafana/k6 run - < script/loadtest/member-join.js
+// BASE_URL: Gateway(9000) 또는 member-service(8080) 직접, RATE / DURATION으로 목표 가입 수/초, 시간 조절
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:9000';
+const RATE = Number(__ENV.RATE || 200);
+const DURATION = __ENV.DURATION || '1m';
+// 실행마다 다른 username (최대 30자)
+const RUN_ID = Date.now().toString(36);
+
+export const options = {
+    scenarios: {
+        join: {
+            executor: 'constant-arrival-rate',
+            exec: 'join',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 500,
+        },
+        duplicate: {
+            executor: 'constant-arrival-rate',
+            exec: 'duplicate',
+            rate: Math.max(1, Math.floor(RATE / 10)),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 5,
+            maxVUs: 50,
+        },
+    },
+    thresholds: {
+        'http_req_failed{scenario:join}': ['rate<0.01'],
+        'http_req_duration{scenario:join}': ['p(99)<1000'],
+        'checks{scenario:duplicate}': ['rate>0.99'],
+    },
+};
+
+const params = { headers: { 'Content-Type': 'application/json' } };
+
+function post(username) {
+    return http.post(
+        `${BASE_URL}/api/v1/member/members/join`,
+        JSON.stringify({ username, password: 'password1234', nickname: username }),
+        params,
+    );
+}
+
+export function setup() {
+    const username = `lt${RUN_ID}dup`;
+    post(username);
+    return { duplicateUsername: username };
+}
+
+export function join() {
+    const res = post(`lt${RUN_ID}v${__VU}i${__ITER}`);
+
+    check(res, { 'joined (201-1)': (r) => r.status === 200 && r.json('resultCode') === '201-1' });
+}
+
+export function duplicate(data) {
+    const res = post(data.duplicateUsername);
+
+    check(res, { 'duplicate rejected': (r) => r.status >= 400 });
+}